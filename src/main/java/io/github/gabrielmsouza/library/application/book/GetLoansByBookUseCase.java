@@ -0,0 +1,30 @@
+package io.github.gabrielmsouza.library.application.book;
+
+import io.github.gabrielmsouza.library.application.UseCase;
+import io.github.gabrielmsouza.library.domain.book.Book;
+import io.github.gabrielmsouza.library.domain.book.BookGateway;
+import io.github.gabrielmsouza.library.domain.exceptions.NotFoundException;
+
+import java.util.List;
+import java.util.Objects;
+
+public class GetLoansByBookUseCase implements UseCase<String, GetLoansByBookUseCase.Output> {
+    private final BookGateway bookGateway;
+
+    public GetLoansByBookUseCase(final BookGateway bookGateway) {
+        this.bookGateway = Objects.requireNonNull(bookGateway);
+    }
+
+    @Override
+    public Output execute(final String id) {
+        return this.bookGateway.findByIdWithLoans(id)
+                .map(Output::from)
+                .orElseThrow(() -> NotFoundException.with(Book.class, id));
+    }
+
+    public record Output(String id, String title, String author, List<String> loans) {
+        public static Output from(final Book book) {
+            return new Output(book.getId(), book.getTitle(), book.getAuthor(), book.getLoans());
+        }
+    }
+}
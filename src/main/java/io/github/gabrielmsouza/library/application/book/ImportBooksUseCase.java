@@ -0,0 +1,192 @@
+package io.github.gabrielmsouza.library.application.book;
+
+import io.github.gabrielmsouza.library.application.UseCase;
+import io.github.gabrielmsouza.library.domain.book.Book;
+import io.github.gabrielmsouza.library.domain.book.BookGateway;
+import io.github.gabrielmsouza.library.domain.exceptions.DomainException;
+import io.github.gabrielmsouza.library.domain.exceptions.NotificationException;
+import io.github.gabrielmsouza.library.domain.validation.Error;
+import io.github.gabrielmsouza.library.domain.validation.handler.Notification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+public class ImportBooksUseCase implements UseCase<Iterator<CreateBookUseCase.Input>, ImportBooksUseCase.Output> {
+    private static final Logger LOG = LoggerFactory.getLogger(ImportBooksUseCase.class);
+    private static final Error IMPORT_FAILED = Error.with("Could not import the book, try again later");
+
+    private final BookGateway bookGateway;
+    private final int chunkSize;
+
+    public ImportBooksUseCase(final BookGateway bookGateway, final int chunkSize) {
+        this.bookGateway = Objects.requireNonNull(bookGateway);
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("'chunkSize' must be greater than 0");
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public Output execute(final Iterator<CreateBookUseCase.Input> inputs) {
+        final var rows = new ArrayList<Row>();
+        final var seen = new HashSet<String>();
+        final var chunk = new ArrayList<Pending>(this.chunkSize);
+
+        var index = 0;
+        while (hasNext(inputs, index, rows)) {
+            final var row = index++;
+            final CreateBookUseCase.Input input;
+            try {
+                input = inputs.next();
+            } catch (final DomainException e) {
+                rows.add(Row.failed(row, null, e.getErrors()));
+                continue;
+            }
+
+            final var notification = Notification.create();
+            final var book = notification.validate(() -> Book.with(input.title(), input.author(), input.isbn()));
+            if (notification.hasErrors()) {
+                rows.add(Row.failed(row, input.isbn(), notification.getErrors()));
+                continue;
+            }
+            if (!seen.add(book.getIsbn())) {
+                rows.add(Row.failed(row, book.getIsbn(), List.of(Error.with("Duplicated isbn %s in request".formatted(book.getIsbn())))));
+                continue;
+            }
+
+            chunk.add(new Pending(row, book));
+            if (chunk.size() == this.chunkSize) {
+                rows.addAll(importChunk(chunk));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            rows.addAll(importChunk(chunk));
+        }
+
+        rows.sort(Comparator.comparingInt(Row::index));
+        return Output.from(rows);
+    }
+
+    private static boolean hasNext(final Iterator<CreateBookUseCase.Input> inputs, final int index, final List<Row> rows) {
+        try {
+            return inputs.hasNext();
+        } catch (final DomainException e) {
+            rows.add(Row.failed(index, null, e.getErrors()));
+            return false;
+        }
+    }
+
+    private List<Row> importChunk(final List<Pending> chunk) {
+        final var rows = new ArrayList<Row>(chunk.size());
+        final var fresh = withoutExisting(chunk, rows);
+        rows.addAll(insert(fresh));
+        return rows;
+    }
+
+    private List<Pending> withoutExisting(final List<Pending> pending, final List<Row> rows) {
+        final var existing = this.bookGateway.findExistingIsbns(pending.stream().map(Pending::isbn).toList());
+        final var fresh = new ArrayList<Pending>(pending.size());
+        for (final var candidate : pending) {
+            if (existing.contains(candidate.isbn())) {
+                rows.add(candidate.failed(Error.with("Already exists a book with isbn %s".formatted(candidate.isbn()))));
+            } else {
+                fresh.add(candidate);
+            }
+        }
+        return fresh;
+    }
+
+    private List<Row> insert(final List<Pending> pending) {
+        if (pending.isEmpty()) {
+            return List.of();
+        }
+        try {
+            this.bookGateway.createAll(pending.stream().map(Pending::book).toList());
+            return pending.stream().map(Pending::imported).toList();
+        } catch (final NotificationException e) {
+            // another request created some of these isbns after they were checked, so only the rows still new are retried
+            final var rows = new ArrayList<Row>(pending.size());
+            final var stillNew = withoutExisting(pending, rows);
+            rows.addAll(stillNew.size() < pending.size() ? insert(stillNew) : insertOneByOne(stillNew));
+            return rows;
+        } catch (final RuntimeException e) {
+            logFailure(pending, pending.size(), e);
+            return pending.stream().map(it -> it.failed(IMPORT_FAILED)).toList();
+        }
+    }
+
+    private List<Row> insertOneByOne(final List<Pending> pending) {
+        final var rows = new ArrayList<Row>(pending.size());
+        RuntimeException firstFailure = null;
+        var failures = 0;
+        for (final var candidate : pending) {
+            try {
+                this.bookGateway.create(candidate.book());
+                rows.add(candidate.imported());
+            } catch (final NotificationException e) {
+                rows.add(Row.failed(candidate.index(), candidate.isbn(), e.getErrors()));
+            } catch (final RuntimeException e) {
+                firstFailure = Objects.requireNonNullElse(firstFailure, e);
+                failures++;
+                rows.add(candidate.failed(IMPORT_FAILED));
+            }
+        }
+        if (Objects.nonNull(firstFailure)) {
+            logFailure(pending, failures, firstFailure);
+        }
+        return rows;
+    }
+
+    // rows only carry a generic error, so the cause is logged once per chunk to keep a failed import traceable
+    private static void logFailure(final List<Pending> pending, final int failures, final RuntimeException cause) {
+        LOG.error(
+                "Could not import {} of the books in rows {} to {}",
+                failures,
+                pending.getFirst().index(),
+                pending.getLast().index(),
+                cause
+        );
+    }
+
+    private record Pending(int index, Book book) {
+        String isbn() {
+            return this.book.getIsbn();
+        }
+
+        Row imported() {
+            return Row.imported(this.index, isbn(), this.book.getId());
+        }
+
+        Row failed(final Error error) {
+            return Row.failed(this.index, isbn(), List.of(error));
+        }
+    }
+
+    public record Row(int index, String isbn, String id, List<Error> errors) {
+        public static Row imported(final int index, final String isbn, final String id) {
+            return new Row(index, isbn, id, List.of());
+        }
+
+        public static Row failed(final int index, final String isbn, final List<Error> errors) {
+            return new Row(index, isbn, null, List.copyOf(errors));
+        }
+
+        public boolean succeeded() {
+            return this.errors.isEmpty();
+        }
+    }
+
+    public record Output(long imported, long failed, List<Row> rows) {
+        public static Output from(final List<Row> rows) {
+            final var imported = rows.stream().filter(Row::succeeded).count();
+            return new Output(imported, rows.size() - imported, rows);
+        }
+    }
+}
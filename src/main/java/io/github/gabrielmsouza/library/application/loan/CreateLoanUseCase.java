@@ -8,8 +8,7 @@ import io.github.gabrielmsouza.library.domain.exceptions.NotFoundException;
 import io.github.gabrielmsouza.library.domain.exceptions.NotificationException;
 import io.github.gabrielmsouza.library.domain.loan.Loan;
 import io.github.gabrielmsouza.library.domain.loan.LoanGateway;
-import io.github.gabrielmsouza.library.domain.validation.Error;
-import io.github.gabrielmsouza.library.domain.validation.ValidationHandler;
+import io.github.gabrielmsouza.library.domain.loan.LoanPolicy;
 import io.github.gabrielmsouza.library.domain.validation.handler.Notification;
 import io.github.gabrielmsouza.library.infrastructure.loan.models.CreateLoanRequest;
 
@@ -20,15 +19,18 @@ public class CreateLoanUseCase implements UseCase<CreateLoanUseCase.Input, Creat
     private final LoanGateway loanGateway;
     private final BookGateway bookGateway;
     private final CustomerGateway customerGateway;
+    private final LoanPolicy loanPolicy;
 
     public CreateLoanUseCase(
             final LoanGateway loanGateway,
             final BookGateway bookGateway,
-            final CustomerGateway customerGateway
+            final CustomerGateway customerGateway,
+            final LoanPolicy loanPolicy
     ) {
         this.loanGateway = Objects.requireNonNull(loanGateway);
         this.bookGateway = Objects.requireNonNull(bookGateway);
         this.customerGateway = Objects.requireNonNull(customerGateway);
+        this.loanPolicy = Objects.requireNonNull(loanPolicy);
     }
 
     @Override
@@ -39,12 +41,7 @@ public class CreateLoanUseCase implements UseCase<CreateLoanUseCase.Input, Creat
                 .orElseThrow(() -> NotFoundException.with(Customer.class, input.customerId()));
 
         final var notification = Notification.create();
-        notification.validate(() -> checkIfBookAlreadyLoaned(notification, book.getId()));
-        if (notification.hasErrors()) {
-            throw NotificationException.with("Invalid loan", notification);
-        }
-
-        final var loan = notification.validate(() -> Loan.with(customer.getId(), book.getId()));
+        final var loan = notification.validate(() -> Loan.with(customer.getId(), book.getId(), this.loanPolicy.periodFor(book)));
         if (notification.hasErrors()) {
             throw NotificationException.with("Invalid loan", notification);
         }
@@ -63,13 +60,6 @@ public class CreateLoanUseCase implements UseCase<CreateLoanUseCase.Input, Creat
         }
     }
 
-    private ValidationHandler checkIfBookAlreadyLoaned(final Notification notification, final String bookId) {
-        if (this.loanGateway.existsByBookIdAndNotReturned(bookId)) {
-            return notification.append(Error.with("Book with ID %s is already on loan".formatted(bookId)));
-        }
-        return notification;
-    }
-
     private Supplier<NotFoundException> bookNotFound(final String isbn) {
         return () -> NotFoundException.with("Book with ISBN %s was not found".formatted(isbn));
     }
@@ -0,0 +1,158 @@
+package io.github.gabrielmsouza.library.application.loan;
+
+import io.github.gabrielmsouza.library.application.UseCase;
+import io.github.gabrielmsouza.library.domain.book.Book;
+import io.github.gabrielmsouza.library.domain.book.BookGateway;
+import io.github.gabrielmsouza.library.domain.customer.Customer;
+import io.github.gabrielmsouza.library.domain.customer.CustomerGateway;
+import io.github.gabrielmsouza.library.domain.exceptions.NotFoundException;
+import io.github.gabrielmsouza.library.domain.exceptions.NotificationException;
+import io.github.gabrielmsouza.library.domain.loan.Loan;
+import io.github.gabrielmsouza.library.domain.loan.LoanGateway;
+import io.github.gabrielmsouza.library.domain.loan.LoanPolicy;
+import io.github.gabrielmsouza.library.domain.validation.Error;
+import io.github.gabrielmsouza.library.domain.validation.handler.Notification;
+import io.github.gabrielmsouza.library.infrastructure.loan.models.CreateLoansRequest;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class CreateLoansUseCase implements UseCase<CreateLoansUseCase.Input, CreateLoansUseCase.Output> {
+    private final LoanGateway loanGateway;
+    private final BookGateway bookGateway;
+    private final CustomerGateway customerGateway;
+    private final LoanPolicy loanPolicy;
+
+    public CreateLoansUseCase(
+            final LoanGateway loanGateway,
+            final BookGateway bookGateway,
+            final CustomerGateway customerGateway,
+            final LoanPolicy loanPolicy
+    ) {
+        this.loanGateway = Objects.requireNonNull(loanGateway);
+        this.bookGateway = Objects.requireNonNull(bookGateway);
+        this.customerGateway = Objects.requireNonNull(customerGateway);
+        this.loanPolicy = Objects.requireNonNull(loanPolicy);
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        final var customer = this.customerGateway.findById(input.customerId())
+                .orElseThrow(() -> NotFoundException.with(Customer.class, input.customerId()));
+
+        final var isbns = input.isbns().stream().filter(Objects::nonNull).distinct().toList();
+        final var books = this.bookGateway.findAllByIsbns(isbns).stream()
+                .collect(Collectors.toMap(Book::getIsbn, Function.identity()));
+        final var onLoan = this.loanGateway.findActiveBookIds(books.values().stream().map(Book::getId).toList());
+
+        final var items = new LinkedHashMap<Integer, Item>();
+        final var pending = new ArrayList<Pending>();
+        final var seen = new HashSet<String>();
+        for (int index = 0; index < input.isbns().size(); index++) {
+            final var isbn = input.isbns().get(index);
+            final var book = books.get(isbn);
+            if (Objects.isNull(book)) {
+                items.put(index, Item.failed(isbn, List.of(Error.with("Book with ISBN %s was not found".formatted(isbn)))));
+            } else if (!seen.add(isbn)) {
+                items.put(index, Item.failed(isbn, List.of(Error.with("Duplicated isbn %s in request".formatted(isbn)))));
+            } else if (onLoan.contains(book.getId())) {
+                items.put(index, alreadyOnLoan(isbn, book.getId()));
+            } else {
+                final var notification = Notification.create();
+                final var loan = notification.validate(() -> Loan.with(customer.getId(), book.getId(), this.loanPolicy.periodFor(book)));
+                if (notification.hasErrors()) {
+                    items.put(index, Item.failed(isbn, notification.getErrors()));
+                } else {
+                    pending.add(new Pending(index, isbn, loan));
+                }
+            }
+        }
+
+        insert(pending, items);
+
+        final var ordered = new ArrayList<Item>(input.isbns().size());
+        for (int index = 0; index < input.isbns().size(); index++) {
+            ordered.add(items.get(index));
+        }
+        return new Output(customer.getId(), ordered);
+    }
+
+    private void insert(final List<Pending> pending, final Map<Integer, Item> items) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        try {
+            this.loanGateway.createAll(pending.stream().map(Pending::loan).toList());
+            pending.forEach(it -> items.put(it.index(), it.created()));
+        } catch (final NotificationException e) {
+            // another request loaned some of these books after they were checked, so only the books still free are retried
+            final var stillFree = withoutOnLoan(pending, items);
+            if (stillFree.size() < pending.size()) {
+                insert(stillFree, items);
+            } else {
+                insertOneByOne(stillFree, items);
+            }
+        } catch (final RuntimeException e) {
+            final var errors = List.of(Error.with(e.getMessage()));
+            pending.forEach(it -> items.put(it.index(), Item.failed(it.isbn(), errors)));
+        }
+    }
+
+    private List<Pending> withoutOnLoan(final List<Pending> pending, final Map<Integer, Item> items) {
+        final var onLoan = this.loanGateway.findActiveBookIds(pending.stream().map(it -> it.loan().getBookId()).toList());
+        final var stillFree = new ArrayList<Pending>(pending.size());
+        for (final var candidate : pending) {
+            if (onLoan.contains(candidate.loan().getBookId())) {
+                items.put(candidate.index(), alreadyOnLoan(candidate.isbn(), candidate.loan().getBookId()));
+            } else {
+                stillFree.add(candidate);
+            }
+        }
+        return stillFree;
+    }
+
+    private void insertOneByOne(final List<Pending> pending, final Map<Integer, Item> items) {
+        for (final var candidate : pending) {
+            final var notification = Notification.create();
+            notification.validate(() -> this.loanGateway.create(candidate.loan()));
+            items.put(candidate.index(), notification.hasErrors()
+                    ? Item.failed(candidate.isbn(), notification.getErrors())
+                    : candidate.created());
+        }
+    }
+
+    private static Item alreadyOnLoan(final String isbn, final String bookId) {
+        return Item.failed(isbn, List.of(Error.with("Book with ID %s is already on loan".formatted(bookId))));
+    }
+
+    private record Pending(int index, String isbn, Loan loan) {
+        Item created() {
+            return Item.created(this.isbn, this.loan.getId());
+        }
+    }
+
+    public record Input(String customerId, List<String> isbns) {
+        public static Input from(final CreateLoansRequest request) {
+            return new Input(request.customerId(), Objects.requireNonNullElse(request.isbns(), List.of()));
+        }
+    }
+
+    public record Item(String isbn, String loanId, List<Error> errors) {
+        public static Item created(final String isbn, final String loanId) {
+            return new Item(isbn, loanId, List.of());
+        }
+
+        public static Item failed(final String isbn, final List<Error> errors) {
+            return new Item(isbn, null, List.copyOf(errors));
+        }
+    }
+
+    public record Output(String customerId, List<Item> items) {
+    }
+}
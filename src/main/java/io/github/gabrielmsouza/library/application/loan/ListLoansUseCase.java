@@ -21,13 +21,14 @@ public class ListLoansUseCase implements UseCase<LoanSearchQuery, Pagination<Lis
         return this.loanGateway.findAll(loanSearchQuery).map(Output::from);
     }
 
-    public record Output(String id, String customerId, String bookId, Instant loanDate, Instant returnDate, boolean returned) {
+    public record Output(String id, String customerId, String bookId, Instant loanDate, Instant dueDate, Instant returnDate, boolean returned) {
         public static Output from(final Loan loan) {
             return new Output(
                 loan.getId(),
                 loan.getCustomerId(),
                 loan.getBookId(),
                 loan.getLoanDate(),
+                loan.getDueDate(),
                 loan.getReturnDate(),
                 loan.isReturned()
             );
@@ -1,34 +1,133 @@
 package io.github.gabrielmsouza.library.application.loan;
 
+import io.github.gabrielmsouza.library.domain.book.Book;
+import io.github.gabrielmsouza.library.domain.book.BookGateway;
+import io.github.gabrielmsouza.library.domain.customer.Customer;
 import io.github.gabrielmsouza.library.domain.customer.CustomerGateway;
+import io.github.gabrielmsouza.library.domain.job.JobRun;
+import io.github.gabrielmsouza.library.domain.job.JobRunGateway;
+import io.github.gabrielmsouza.library.domain.loan.Loan;
 import io.github.gabrielmsouza.library.domain.loan.LoanGateway;
-import io.github.gabrielmsouza.library.domain.mail.EmailGateway;
+import io.github.gabrielmsouza.library.domain.loan.LoanKey;
+import io.github.gabrielmsouza.library.domain.loan.ReminderSchedule;
+import io.github.gabrielmsouza.library.domain.mail.EmailOutboxGateway;
+import io.github.gabrielmsouza.library.domain.mail.LateLoansDigest;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public class NotifyLateLoansUseCase {
+    public static final String JOB_NAME = "notify-late-loans";
+
+    private final JobRunGateway jobRunGateway;
     private final LoanGateway loanGateway;
     private final CustomerGateway customerGateway;
-    private final EmailGateway mailGateway;
+    private final BookGateway bookGateway;
+    private final EmailOutboxGateway outboxGateway;
+    private final ReminderSchedule schedule;
+    private final int chunkSize;
 
     public NotifyLateLoansUseCase(
+            final JobRunGateway jobRunGateway,
             final LoanGateway loanGateway,
             final CustomerGateway customerGateway,
-            final EmailGateway mailGateway
+            final BookGateway bookGateway,
+            final EmailOutboxGateway outboxGateway,
+            final ReminderSchedule schedule,
+            final int chunkSize
     ) {
+        this.jobRunGateway = Objects.requireNonNull(jobRunGateway);
         this.loanGateway = Objects.requireNonNull(loanGateway);
         this.customerGateway = Objects.requireNonNull(customerGateway);
-        this.mailGateway = Objects.requireNonNull(mailGateway);
+        this.bookGateway = Objects.requireNonNull(bookGateway);
+        this.outboxGateway = Objects.requireNonNull(outboxGateway);
+        this.schedule = Objects.requireNonNull(schedule);
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("'chunkSize' must be greater than 0");
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    public Output execute() {
+        final var today = LocalDate.now();
+        // a day has a single run, so once today's is completed a later trigger has nothing left to do
+        final var run = this.jobRunGateway.findRunning(JOB_NAME)
+                .or(() -> this.jobRunGateway.findByRunDate(JOB_NAME, today))
+                .orElseGet(() -> this.jobRunGateway.create(JobRun.start(JOB_NAME, today)));
+        if (run.isCompleted()) {
+            return new Output(run.getId(), run.getRunDate(), 0, 0, 0, true);
+        }
+
+        final var loans = this.loanGateway.findAllLateLoans(this.schedule, run.getRunDate(), run.getCheckpoint(), this.chunkSize);
+        final var hasNext = loans.size() == this.chunkSize;
+
+        // loans come ordered by customer, so the last customer of a full chunk is left for the next one
+        final var split = hasNext ? firstIndexOf(loans, loans.getLast().getCustomerId()) : loans.size();
+        final var batch = split > 0 ? loans.subList(0, split) : loans;
+
+        final var enqueued = enqueue(batch, run.getRunDate());
+        run.checkpoint(batch.isEmpty() ? null : LoanKey.of(batch.getLast()), batch.size(), enqueued.queued(), enqueued.skipped());
+        if (!hasNext) {
+            run.complete();
+        }
+        this.jobRunGateway.update(run);
+
+        return new Output(run.getId(), run.getRunDate(), batch.size(), enqueued.queued(), enqueued.skipped(), run.isCompleted());
+    }
+
+    private Enqueued enqueue(final List<Loan> loans, final LocalDate today) {
+        if (loans.isEmpty()) {
+            return new Enqueued(0, 0);
+        }
+        final var customers = this.customerGateway.findAllByIds(loans.stream().map(Loan::getCustomerId).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Customer::getId, Function.identity()));
+        final var titles = this.bookGateway.findAllByIds(loans.stream().map(Loan::getBookId).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Book::getId, Book::getTitle));
+
+        final var loansByCustomer = loans.stream()
+                .collect(Collectors.groupingBy(Loan::getCustomerId, LinkedHashMap::new, Collectors.toList()));
+
+        final var digests = new ArrayList<LateLoansDigest>(loansByCustomer.size());
+        final var reminders = new HashMap<String, Integer>();
+        loansByCustomer.forEach((customerId, customerLoans) -> {
+            final var customer = customers.get(customerId);
+            if (Objects.isNull(customer)) {
+                return;
+            }
+            final var overdue = customerLoans.stream()
+                    .map(loan -> titles.get(loan.getBookId()))
+                    .filter(Objects::nonNull)
+                    .toList();
+            if (!overdue.isEmpty()) {
+                digests.add(LateLoansDigest.with(customer.getEmail(), customer.getName(), overdue));
+                customerLoans.forEach(loan -> reminders.put(loan.getId(), this.schedule.remindersDue(loan.getDueDate(), today)));
+            }
+        });
+        this.outboxGateway.enqueue(digests);
+        this.loanGateway.markNotified(reminders);
+        return new Enqueued(digests.size(), loansByCustomer.size() - digests.size());
+    }
+
+    private static int firstIndexOf(final List<Loan> loans, final String customerId) {
+        var index = loans.size();
+        while (index > 0 && loans.get(index - 1).getCustomerId().equals(customerId)) {
+            index--;
+        }
+        return index;
+    }
+
+    private record Enqueued(long queued, long skipped) {
     }
 
-    public void execute() {
-        final var loanDays = 4;
-        final var date = LocalDate.now().minusDays(loanDays);
-        final var loans = this.loanGateway.findAllLateLoans(date);
-        loans.forEach(loan ->
-            customerGateway.findById(loan.getCustomerId())
-                .ifPresent(customer -> this.mailGateway.send(customer.getEmail()))
-        );
+    public record Output(String runId, LocalDate runDate, long processed, long queued, long skipped, boolean completed) {
+        public boolean completedBefore(final LocalDate today) {
+            return completed && runDate.isBefore(today);
+        }
     }
 }
@@ -2,9 +2,13 @@ package io.github.gabrielmsouza.library.application.loan;
 
 import io.github.gabrielmsouza.library.application.UnaryUseCase;
 import io.github.gabrielmsouza.library.domain.exceptions.NotFoundException;
+import io.github.gabrielmsouza.library.domain.exceptions.NotificationException;
 import io.github.gabrielmsouza.library.domain.loan.Loan;
 import io.github.gabrielmsouza.library.domain.loan.LoanGateway;
+import io.github.gabrielmsouza.library.domain.validation.Error;
+import io.github.gabrielmsouza.library.domain.validation.handler.Notification;
 
+import java.time.Instant;
 import java.util.Objects;
 
 public class ReturnLoanUseCase implements UnaryUseCase<String> {
@@ -16,17 +20,13 @@ public class ReturnLoanUseCase implements UnaryUseCase<String> {
 
     @Override
     public void execute(final String loanId) {
-        this.loanGateway
-            .findById(loanId)
-            .ifPresentOrElse(this::returned, notFound(loanId));
-    }
-
-    private void returned(final Loan loan) {
-        loan.returned();
-        this.loanGateway.update(loan);
-    }
-
-    private Runnable notFound(final String loanId) {
-        return () -> { throw NotFoundException.with(Loan.class, loanId); };
+        if (this.loanGateway.markReturned(loanId, Instant.now())) {
+            return;
+        }
+        if (this.loanGateway.findById(loanId).isEmpty()) {
+            throw NotFoundException.with(Loan.class, loanId);
+        }
+        final var error = Error.with("Loan with ID %s was already returned".formatted(loanId));
+        throw NotificationException.with("Invalid loan", Notification.create(error));
     }
 }
@@ -0,0 +1,76 @@
+package io.github.gabrielmsouza.library.application.loan;
+
+import io.github.gabrielmsouza.library.application.UseCase;
+import io.github.gabrielmsouza.library.domain.loan.Loan;
+import io.github.gabrielmsouza.library.domain.loan.LoanGateway;
+import io.github.gabrielmsouza.library.domain.validation.Error;
+import io.github.gabrielmsouza.library.domain.validation.handler.Notification;
+import io.github.gabrielmsouza.library.infrastructure.loan.models.ReturnLoansRequest;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class ReturnLoansUseCase implements UseCase<ReturnLoansUseCase.Input, ReturnLoansUseCase.Output> {
+    private final LoanGateway loanGateway;
+
+    public ReturnLoansUseCase(final LoanGateway loanGateway) {
+        this.loanGateway = Objects.requireNonNull(loanGateway);
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        final var ids = input.loanIds().stream().filter(Objects::nonNull).distinct().toList();
+        final var notification = Notification.create();
+        final var returned = Objects.requireNonNullElse(
+                notification.validate(() -> this.loanGateway.markAllReturned(ids, Instant.now())),
+                Set.<String>of()
+        );
+
+        // only the loans that were not returned by this request need a lookup to explain why
+        final var notReturned = ids.stream().filter(id -> !returned.contains(id)).toList();
+        final var existing = notReturned.isEmpty() || notification.hasErrors()
+                ? Set.<String>of()
+                : this.loanGateway.findAllByIds(notReturned).stream().map(Loan::getId).collect(Collectors.toSet());
+
+        final var items = new ArrayList<Item>(input.loanIds().size());
+        final var seen = new HashSet<String>();
+        for (final var id : input.loanIds()) {
+            if (!seen.add(id)) {
+                items.add(Item.failed(id, List.of(Error.with("Duplicated loan %s in request".formatted(id)))));
+            } else if (notification.hasErrors()) {
+                items.add(Item.failed(id, notification.getErrors()));
+            } else if (Objects.nonNull(id) && returned.contains(id)) {
+                items.add(Item.returned(id));
+            } else if (Objects.nonNull(id) && existing.contains(id)) {
+                items.add(Item.failed(id, List.of(Error.with("Loan with ID %s was already returned".formatted(id)))));
+            } else {
+                items.add(Item.failed(id, List.of(Error.with("Loan with ID %s was not found".formatted(id)))));
+            }
+        }
+        return new Output(items);
+    }
+
+    public record Input(List<String> loanIds) {
+        public static Input from(final ReturnLoansRequest request) {
+            return new Input(Objects.requireNonNullElse(request.loanIds(), List.of()));
+        }
+    }
+
+    public record Item(String loanId, boolean returned, List<Error> errors) {
+        public static Item returned(final String loanId) {
+            return new Item(loanId, true, List.of());
+        }
+
+        public static Item failed(final String loanId, final List<Error> errors) {
+            return new Item(loanId, false, List.copyOf(errors));
+        }
+    }
+
+    public record Output(List<Item> items) {
+    }
+}
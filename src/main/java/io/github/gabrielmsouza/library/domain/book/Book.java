@@ -1,6 +1,7 @@
 package io.github.gabrielmsouza.library.domain.book;
 
 import io.github.gabrielmsouza.library.domain.exceptions.NotificationException;
+import io.github.gabrielmsouza.library.domain.identity.Identifiers;
 import io.github.gabrielmsouza.library.domain.validation.Error;
 import io.github.gabrielmsouza.library.domain.validation.ValidationHandler;
 import io.github.gabrielmsouza.library.domain.validation.handler.Notification;
@@ -8,6 +9,9 @@ import io.github.gabrielmsouza.library.domain.validation.handler.Notification;
 import java.util.*;
 
 public class Book {
+    public static final int ISBN_MAX_LENGTH = 32;
+    public static final int TEXT_MAX_LENGTH = 255;
+
     private final String id;
     private String title;
     private String author;
@@ -24,7 +28,7 @@ public class Book {
     }
 
     public static Book with(final String title, final String author, final String isbn) {
-        final var id = UUID.randomUUID().toString().toLowerCase().replace("-", "");
+        final var id = Identifiers.next();
         return new Book(id, title, author, isbn, new ArrayList<>());
     }
 
@@ -51,14 +55,20 @@ public class Book {
 
         if (Objects.isNull(this.title) || this.title.isBlank()) {
             handler.append(Error.with("'title' should not be empty"));
+        } else if (this.title.length() > TEXT_MAX_LENGTH) {
+            handler.append(Error.with("'title' must be at most %d characters".formatted(TEXT_MAX_LENGTH)));
         }
 
         if (Objects.isNull(this.author) || this.author.isBlank()) {
             handler.append(Error.with("'author' should not be empty"));
+        } else if (this.author.length() > TEXT_MAX_LENGTH) {
+            handler.append(Error.with("'author' must be at most %d characters".formatted(TEXT_MAX_LENGTH)));
         }
 
         if (Objects.isNull(this.isbn) || this.isbn.isBlank()) {
             handler.append(Error.with("'isbn' should not be empty"));
+        } else if (this.isbn.length() > ISBN_MAX_LENGTH) {
+            handler.append(Error.with("'isbn' must be at most %d characters".formatted(ISBN_MAX_LENGTH)));
         }
     }
 
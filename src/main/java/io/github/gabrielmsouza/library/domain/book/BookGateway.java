@@ -3,14 +3,22 @@ package io.github.gabrielmsouza.library.domain.book;
 import io.github.gabrielmsouza.library.domain.pagination.Pagination;
 import io.github.gabrielmsouza.library.domain.pagination.SearchQuery;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface BookGateway {
     Book create(Book book);
+    List<Book> createAll(List<Book> books);
     Book update(Book book);
     Optional<Book> findById(String id);
+    Optional<Book> findByIdWithLoans(String id);
+    List<Book> findAllByIds(Collection<String> ids);
     boolean existsByIsbn(String isbn);
+    Set<String> findExistingIsbns(Collection<String> isbns);
     void deleteById(String id);
     Pagination<Book> findAll(SearchQuery query);
     Optional<Book> findByIsbn(String isbn);
+    List<Book> findAllByIsbns(Collection<String> isbns);
 }
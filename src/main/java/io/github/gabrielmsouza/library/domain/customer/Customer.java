@@ -1,12 +1,12 @@
 package io.github.gabrielmsouza.library.domain.customer;
 
 import io.github.gabrielmsouza.library.domain.exceptions.NotificationException;
+import io.github.gabrielmsouza.library.domain.identity.Identifiers;
 import io.github.gabrielmsouza.library.domain.validation.Error;
 import io.github.gabrielmsouza.library.domain.validation.ValidationHandler;
 import io.github.gabrielmsouza.library.domain.validation.handler.Notification;
 
 import java.util.Objects;
-import java.util.UUID;
 import java.util.regex.Pattern;
 
 public class Customer {
@@ -23,7 +23,7 @@ public class Customer {
     }
 
     public static Customer with(final String name, final String email) {
-        final var id = UUID.randomUUID().toString().toLowerCase().replace("-", "");
+        final var id = Identifiers.next();
         return new Customer(id, name, email);
     }
 
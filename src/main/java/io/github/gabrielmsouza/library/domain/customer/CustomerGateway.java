@@ -1,8 +1,11 @@
 package io.github.gabrielmsouza.library.domain.customer;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CustomerGateway {
     Customer create(Customer customer);
     Optional<Customer> findById(String id);
+    List<Customer> findAllByIds(Collection<String> ids);
 }
@@ -0,0 +1,6 @@
+package io.github.gabrielmsouza.library.domain.identity;
+
+@FunctionalInterface
+public interface IdGenerator {
+    String generate();
+}
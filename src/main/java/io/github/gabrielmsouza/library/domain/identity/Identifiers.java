@@ -0,0 +1,17 @@
+package io.github.gabrielmsouza.library.domain.identity;
+
+import java.util.Objects;
+
+public final class Identifiers {
+    private static volatile IdGenerator generator = new UuidV7Generator();
+
+    private Identifiers() {}
+
+    public static String next() {
+        return generator.generate();
+    }
+
+    public static void use(final IdGenerator idGenerator) {
+        generator = Objects.requireNonNull(idGenerator);
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.gabrielmsouza.library.domain.identity;
+
+import java.time.Clock;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class UuidV7Generator implements IdGenerator {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Clock clock;
+
+    public UuidV7Generator() {
+        this(Clock.systemUTC());
+    }
+
+    public UuidV7Generator(final Clock clock) {
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    @Override
+    public String generate() {
+        final var random = ThreadLocalRandom.current();
+        final var msb = (this.clock.millis() << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+        final var lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+
+        final var chars = new char[32];
+        write(chars, 0, msb);
+        write(chars, 16, lsb);
+        return new String(chars);
+    }
+
+    private static void write(final char[] chars, final int offset, final long bits) {
+        var remaining = bits;
+        for (int i = offset + 15; i >= offset; i--) {
+            chars[i] = HEX[(int) (remaining & 0xF)];
+            remaining >>>= 4;
+        }
+    }
+}
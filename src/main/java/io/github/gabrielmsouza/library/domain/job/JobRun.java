@@ -0,0 +1,141 @@
+package io.github.gabrielmsouza.library.domain.job;
+
+import io.github.gabrielmsouza.library.domain.identity.Identifiers;
+import io.github.gabrielmsouza.library.domain.loan.LoanKey;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Objects;
+
+public class JobRun {
+    private final String id;
+    private final String jobName;
+    private final LocalDate runDate;
+    private final Instant startedAt;
+    private JobRunStatus status;
+    private LoanKey checkpoint;
+    private long processed;
+    private long queued;
+    private long skipped;
+    private Instant updatedAt;
+    private Instant finishedAt;
+    private final long version;
+
+    private JobRun(
+            final String id,
+            final String jobName,
+            final LocalDate runDate,
+            final JobRunStatus status,
+            final LoanKey checkpoint,
+            final long processed,
+            final long queued,
+            final long skipped,
+            final Instant startedAt,
+            final Instant updatedAt,
+            final Instant finishedAt,
+            final long version
+    ) {
+        this.id = Objects.requireNonNull(id);
+        this.jobName = Objects.requireNonNull(jobName);
+        this.runDate = Objects.requireNonNull(runDate);
+        this.status = Objects.requireNonNull(status);
+        this.checkpoint = checkpoint;
+        this.processed = processed;
+        this.queued = queued;
+        this.skipped = skipped;
+        this.startedAt = Objects.requireNonNull(startedAt);
+        this.updatedAt = Objects.requireNonNull(updatedAt);
+        this.finishedAt = finishedAt;
+        this.version = version;
+    }
+
+    public static JobRun start(final String jobName, final LocalDate runDate) {
+        final var now = Instant.now();
+        return new JobRun(Identifiers.next(), jobName, runDate, JobRunStatus.RUNNING, null, 0, 0, 0, now, now, null, 0);
+    }
+
+    public static JobRun with(
+            final String id,
+            final String jobName,
+            final LocalDate runDate,
+            final JobRunStatus status,
+            final LoanKey checkpoint,
+            final long processed,
+            final long queued,
+            final long skipped,
+            final Instant startedAt,
+            final Instant updatedAt,
+            final Instant finishedAt,
+            final long version
+    ) {
+        return new JobRun(id, jobName, runDate, status, checkpoint, processed, queued, skipped, startedAt, updatedAt, finishedAt, version);
+    }
+
+    public void checkpoint(final LoanKey last, final long processed, final long queued, final long skipped) {
+        if (Objects.nonNull(last)) {
+            this.checkpoint = last;
+        }
+        this.processed += processed;
+        this.queued += queued;
+        this.skipped += skipped;
+        this.updatedAt = Instant.now();
+    }
+
+    public void complete() {
+        this.status = JobRunStatus.COMPLETED;
+        this.finishedAt = Instant.now();
+        this.updatedAt = this.finishedAt;
+    }
+
+    public boolean isCompleted() {
+        return this.status == JobRunStatus.COMPLETED;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    public LocalDate getRunDate() {
+        return runDate;
+    }
+
+    public JobRunStatus getStatus() {
+        return status;
+    }
+
+    public LoanKey getCheckpoint() {
+        return checkpoint;
+    }
+
+    public long getProcessed() {
+        return processed;
+    }
+
+    public long getQueued() {
+        return queued;
+    }
+
+    public long getSkipped() {
+        return skipped;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,11 @@
+package io.github.gabrielmsouza.library.domain.job;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface JobRunGateway {
+    JobRun create(JobRun run);
+    JobRun update(JobRun run);
+    Optional<JobRun> findRunning(String jobName);
+    Optional<JobRun> findByRunDate(String jobName, LocalDate runDate);
+}
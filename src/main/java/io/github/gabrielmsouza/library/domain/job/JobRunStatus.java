@@ -0,0 +1,6 @@
+package io.github.gabrielmsouza.library.domain.job;
+
+public enum JobRunStatus {
+    RUNNING,
+    COMPLETED
+}
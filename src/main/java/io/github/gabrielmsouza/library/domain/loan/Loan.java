@@ -1,19 +1,23 @@
 package io.github.gabrielmsouza.library.domain.loan;
 
 import io.github.gabrielmsouza.library.domain.exceptions.NotificationException;
+import io.github.gabrielmsouza.library.domain.identity.Identifiers;
 import io.github.gabrielmsouza.library.domain.validation.Error;
 import io.github.gabrielmsouza.library.domain.validation.ValidationHandler;
 import io.github.gabrielmsouza.library.domain.validation.handler.Notification;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Objects;
-import java.util.UUID;
 
 public class Loan {
+    public static final Duration DEFAULT_LOAN_PERIOD = Duration.ofDays(4);
+
     private final String id;
     private final String customerId;
     private final String bookId;
     private final Instant loanDate;
+    private final Instant dueDate;
     private Instant returnDate;
     private boolean returned;
 
@@ -22,6 +26,7 @@ public class Loan {
             final String customerId,
             final String bookId,
             final Instant loanDate,
+            final Instant dueDate,
             final Instant returnDate,
             final boolean returned
     ) {
@@ -29,15 +34,20 @@ public class Loan {
         this.customerId = customerId;
         this.bookId = bookId;
         this.loanDate = loanDate;
+        this.dueDate = dueDate;
         this.returnDate = returnDate;
         this.returned = returned;
         selfValidation();
     }
 
     public static Loan with(final String customerId, final String bookId) {
-        final var id = UUID.randomUUID().toString().toLowerCase().replace("-", "");
+        return with(customerId, bookId, DEFAULT_LOAN_PERIOD);
+    }
+
+    public static Loan with(final String customerId, final String bookId, final Duration loanPeriod) {
+        final var id = Identifiers.next();
         final var loanDate = Instant.now();
-        return new Loan(id, customerId, bookId, loanDate, null, false);
+        return new Loan(id, customerId, bookId, loanDate, loanDate.plus(loanPeriod), null, false);
     }
 
     public static Loan with(
@@ -45,10 +55,11 @@ public class Loan {
         final String customerId,
         final String bookId,
         final Instant loanDate,
+        final Instant dueDate,
         final Instant returnDate,
         final boolean returned
     ) {
-        return new Loan(id, customerId, bookId, loanDate, returnDate, returned);
+        return new Loan(id, customerId, bookId, loanDate, dueDate, returnDate, returned);
     }
 
     public static Loan with(final Loan loan) {
@@ -57,6 +68,7 @@ public class Loan {
                 loan.getCustomerId(),
                 loan.getBookId(),
                 loan.getLoanDate(),
+                loan.getDueDate(),
                 loan.getReturnDate(),
                 loan.isReturned()
         );
@@ -74,6 +86,12 @@ public class Loan {
         if (Objects.isNull(this.bookId) || this.bookId.isBlank()) {
             handler.append(Error.with("'bookId' should not be empty"));
         }
+
+        if (Objects.isNull(this.dueDate)) {
+            handler.append(Error.with("'dueDate' should not be null"));
+        } else if (Objects.nonNull(this.loanDate) && this.dueDate.isBefore(this.loanDate)) {
+            handler.append(Error.with("'dueDate' should not be before 'loanDate'"));
+        }
     }
 
     public void returned() {
@@ -97,6 +115,10 @@ public class Loan {
         return loanDate;
     }
 
+    public Instant getDueDate() {
+        return dueDate;
+    }
+
     public boolean isReturned() {
         return returned;
     }
@@ -2,15 +2,25 @@ package io.github.gabrielmsouza.library.domain.loan;
 
 import io.github.gabrielmsouza.library.domain.pagination.Pagination;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface LoanGateway {
     Loan create(Loan loan);
+    List<Loan> createAll(List<Loan> loans);
     Loan update(Loan loan);
+    boolean markReturned(String id, Instant returnDate);
+    Set<String> markAllReturned(Collection<String> ids, Instant returnDate);
     Optional<Loan> findById(String id);
+    List<Loan> findAllByIds(Collection<String> ids);
     boolean existsByBookIdAndNotReturned(String bookId);
+    Set<String> findActiveBookIds(Collection<String> bookIds);
     Pagination<Loan> findAll(LoanSearchQuery query);
-    List<Loan> findAllLateLoans(final LocalDate date);
+    List<Loan> findAllLateLoans(ReminderSchedule schedule, LocalDate today, LoanKey after, int limit);
+    void markNotified(Map<String, Integer> remindersByLoanId);
 }
@@ -0,0 +1,7 @@
+package io.github.gabrielmsouza.library.domain.loan;
+
+public record LoanKey(String customerId, String id) {
+    public static LoanKey of(final Loan loan) {
+        return new LoanKey(loan.getCustomerId(), loan.getId());
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.gabrielmsouza.library.domain.loan;
+
+import io.github.gabrielmsouza.library.domain.book.Book;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+
+public record LoanPolicy(Duration defaultPeriod, Map<String, Duration> periodsByIsbn) {
+    public LoanPolicy {
+        Objects.requireNonNull(defaultPeriod);
+        if (defaultPeriod.isNegative() || defaultPeriod.isZero()) {
+            throw new IllegalArgumentException("'defaultPeriod' must be positive");
+        }
+        periodsByIsbn = Map.copyOf(periodsByIsbn);
+    }
+
+    public static LoanPolicy with(final Duration defaultPeriod, final Map<String, Duration> periodsByIsbn) {
+        return new LoanPolicy(defaultPeriod, periodsByIsbn);
+    }
+
+    public static LoanPolicy standard() {
+        return new LoanPolicy(Loan.DEFAULT_LOAN_PERIOD, Map.of());
+    }
+
+    public Duration periodFor(final Book book) {
+        return periodsByIsbn.getOrDefault(book.getIsbn(), defaultPeriod);
+    }
+}
@@ -6,6 +6,18 @@ public record LoanSearchQuery(
     String isbn,
     String customerId,
     String sort,
-    String direction
+    String direction,
+    String cursor,
+    boolean countTotal
 ) {
+    public LoanSearchQuery(
+        final int page,
+        final int perPage,
+        final String isbn,
+        final String customerId,
+        final String sort,
+        final String direction
+    ) {
+        this(page, perPage, isbn, customerId, sort, direction, null, true);
+    }
 }
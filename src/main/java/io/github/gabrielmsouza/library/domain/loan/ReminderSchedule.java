@@ -0,0 +1,29 @@
+package io.github.gabrielmsouza.library.domain.loan;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+public record ReminderSchedule(List<Integer> days) {
+    public ReminderSchedule {
+        if (days.isEmpty()) {
+            throw new IllegalArgumentException("'days' should not be empty");
+        }
+        days = days.stream().sorted().distinct().toList();
+    }
+
+    public static ReminderSchedule with(final List<Integer> days) {
+        return new ReminderSchedule(days);
+    }
+
+    public List<Instant> cutoffs(final LocalDate today) {
+        return days.stream()
+                .map(day -> today.minusDays(day - 1L).atStartOfDay(ZoneOffset.UTC).toInstant())
+                .toList();
+    }
+
+    public int remindersDue(final Instant dueDate, final LocalDate today) {
+        return (int) cutoffs(today).stream().filter(dueDate::isBefore).count();
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.gabrielmsouza.library.domain.mail;
+
+public record DispatchSummary(
+    long sent,
+    long failed,
+    long skipped
+) {
+    public static DispatchSummary empty() {
+        return new DispatchSummary(0, 0, 0);
+    }
+
+    public static DispatchSummary with(final long sent, final long failed, final long skipped) {
+        return new DispatchSummary(sent, failed, skipped);
+    }
+
+    public DispatchSummary plus(final DispatchSummary other) {
+        return new DispatchSummary(sent + other.sent(), failed + other.failed(), skipped + other.skipped());
+    }
+}
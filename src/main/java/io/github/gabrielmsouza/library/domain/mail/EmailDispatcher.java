@@ -0,0 +1,16 @@
+package io.github.gabrielmsouza.library.domain.mail;
+
+import java.util.List;
+
+public interface EmailDispatcher {
+    DispatchSummary dispatch(List<LateLoansDigest> digests, Listener listener);
+
+    default DispatchSummary dispatch(final List<LateLoansDigest> digests) {
+        return dispatch(digests, (digest, error) -> {});
+    }
+
+    @FunctionalInterface
+    interface Listener {
+        void onComplete(LateLoansDigest digest, Throwable error);
+    }
+}
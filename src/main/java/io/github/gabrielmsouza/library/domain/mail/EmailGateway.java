@@ -2,4 +2,5 @@ package io.github.gabrielmsouza.library.domain.mail;
 
 public interface EmailGateway {
     void send(String email);
+    void send(LateLoansDigest digest);
 }
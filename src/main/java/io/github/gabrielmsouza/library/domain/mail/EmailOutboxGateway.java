@@ -0,0 +1,7 @@
+package io.github.gabrielmsouza.library.domain.mail;
+
+import java.util.List;
+
+public interface EmailOutboxGateway {
+    void enqueue(List<LateLoansDigest> digests);
+}
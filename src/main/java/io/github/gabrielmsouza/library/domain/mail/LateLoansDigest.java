@@ -0,0 +1,19 @@
+package io.github.gabrielmsouza.library.domain.mail;
+
+import java.util.List;
+import java.util.Objects;
+
+public record LateLoansDigest(
+    String email,
+    String customerName,
+    List<String> titles
+) {
+    public LateLoansDigest {
+        Objects.requireNonNull(email);
+        titles = List.copyOf(titles);
+    }
+
+    public static LateLoansDigest with(final String email, final String customerName, final List<String> titles) {
+        return new LateLoansDigest(email, customerName, titles);
+    }
+}
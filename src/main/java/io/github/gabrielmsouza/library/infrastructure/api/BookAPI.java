@@ -4,6 +4,7 @@ import io.github.gabrielmsouza.library.domain.pagination.Pagination;
 import io.github.gabrielmsouza.library.infrastructure.book.models.BookResponse;
 import io.github.gabrielmsouza.library.infrastructure.book.models.CreateBookRequest;
 import io.github.gabrielmsouza.library.infrastructure.book.models.ListBooksResponse;
+import io.github.gabrielmsouza.library.infrastructure.book.models.LoansByBookResponse;
 import io.github.gabrielmsouza.library.infrastructure.book.models.UpdateBookRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,8 +14,11 @@ import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
+
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 
 @Tag(name = "Books")
 @RequestMapping("/books")
@@ -31,6 +35,19 @@ public interface BookAPI {
     })
     ResponseEntity<?> create(@RequestBody @Valid CreateBookRequest request);
 
+    @PostMapping(
+        value = "bulk",
+        consumes = {APPLICATION_JSON_VALUE, APPLICATION_NDJSON_VALUE},
+        produces = APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Import books from a JSON array or a NDJSON stream")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Books imported, with the outcome of each row"),
+        @ApiResponse(responseCode = "422", description = "The payload could not be read"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<?> importBooks(InputStream body);
+
     @GetMapping(value = "{id}", produces = APPLICATION_JSON_VALUE)
     @Operation(summary = "Get a book by it's identifier")
     @ApiResponses(value = {
@@ -40,6 +57,15 @@ public interface BookAPI {
     })
     ResponseEntity<BookResponse> getById(@PathVariable String id);
 
+    @GetMapping(value = "{id}/loans", produces = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get a book with the identifiers of it's loans")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Book loans retrieved"),
+        @ApiResponse(responseCode = "404", description = "Book was not found"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<LoansByBookResponse> getLoansById(@PathVariable String id);
+
     @ResponseStatus(NO_CONTENT)
     @DeleteMapping(value = "{id}")
     @Operation(summary = "Delete a book by it's identifier")
@@ -75,6 +101,8 @@ public interface BookAPI {
         @RequestParam(name = "page", required = false, defaultValue = "0") int page,
         @RequestParam(name = "per_page", required = false, defaultValue = "10") int perPage,
         @RequestParam(name = "sort", required = false, defaultValue = "isbn") String sort,
-        @RequestParam(name = "dir", required = false, defaultValue = "asc") String direction
+        @RequestParam(name = "dir", required = false, defaultValue = "asc") String direction,
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "count", required = false, defaultValue = "${pagination.books.count:true}") boolean count
     );
 }
@@ -2,7 +2,9 @@ package io.github.gabrielmsouza.library.infrastructure.api;
 
 import io.github.gabrielmsouza.library.domain.pagination.Pagination;
 import io.github.gabrielmsouza.library.infrastructure.loan.models.CreateLoanRequest;
+import io.github.gabrielmsouza.library.infrastructure.loan.models.CreateLoansRequest;
 import io.github.gabrielmsouza.library.infrastructure.loan.models.ListLoansResponse;
+import io.github.gabrielmsouza.library.infrastructure.loan.models.ReturnLoansRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -29,12 +31,38 @@ public interface LoanAPI {
     })
     ResponseEntity<?> create(@RequestBody @Valid CreateLoanRequest request);
 
+    @PostMapping(
+        value = "/batch",
+        consumes = APPLICATION_JSON_VALUE,
+        produces = APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create a loan for each book of a customer's batch")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Batch processed, with the outcome of each book"),
+        @ApiResponse(responseCode = "404", description = "Customer was not found"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<?> createBatch(@RequestBody @Valid CreateLoansRequest request);
+
+    @PostMapping(
+        value = "/returns/batch",
+        consumes = APPLICATION_JSON_VALUE,
+        produces = APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Return a batch of loaned books")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Batch processed, with the outcome of each loan"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<?> returnedBatch(@RequestBody @Valid ReturnLoansRequest request);
+
     @ResponseStatus(OK)
     @PatchMapping(value = "/{id}/returned")
     @Operation(summary = "Return a loaned book")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Returned successfully"),
         @ApiResponse(responseCode = "404", description = "Loan was not found"),
+        @ApiResponse(responseCode = "422", description = "Loan was already returned"),
         @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
     void returned(@PathVariable String id);
@@ -52,6 +80,8 @@ public interface LoanAPI {
             @RequestParam(name = "page", required = false, defaultValue = "0") int page,
             @RequestParam(name = "per_page", required = false, defaultValue = "10") int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "loanDate") String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") String direction,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "count", required = false, defaultValue = "${pagination.loans.count:true}") boolean count
     );
 }
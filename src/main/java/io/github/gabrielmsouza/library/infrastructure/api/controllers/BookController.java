@@ -1,10 +1,15 @@
 package io.github.gabrielmsouza.library.infrastructure.api.controllers;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.gabrielmsouza.library.application.book.*;
+import io.github.gabrielmsouza.library.domain.exceptions.DomainException;
 import io.github.gabrielmsouza.library.domain.pagination.Pagination;
 import io.github.gabrielmsouza.library.domain.pagination.SearchQuery;
+import io.github.gabrielmsouza.library.domain.validation.Error;
 import io.github.gabrielmsouza.library.infrastructure.api.BookAPI;
 import io.github.gabrielmsouza.library.infrastructure.book.models.ListBooksResponse;
+import io.github.gabrielmsouza.library.infrastructure.book.models.LoansByBookResponse;
 import io.github.gabrielmsouza.library.infrastructure.book.models.UpdateBookRequest;
 import io.github.gabrielmsouza.library.infrastructure.book.presenter.BookPresenter;
 import io.github.gabrielmsouza.library.infrastructure.book.models.BookResponse;
@@ -12,7 +17,10 @@ import io.github.gabrielmsouza.library.infrastructure.book.models.CreateBookRequ
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.util.Iterator;
 import java.util.Objects;
 
 @RestController
@@ -22,18 +30,28 @@ public class BookController implements BookAPI {
     private final DeleteBookUseCase deleteBookUseCase;
     private final UpdateBookUseCase updateBookUseCase;
     private final ListBooksUseCase listBooksUseCase;
+    private final GetLoansByBookUseCase getLoansByBookUseCase;
+    private final ImportBooksUseCase importBooksUseCase;
+    private final ObjectMapper mapper;
+
     public BookController(
             final CreateBookUseCase createBookUseCase,
             final GetBookByIdUseCase getBookByIdUseCase,
             final DeleteBookUseCase deleteBookUseCase,
             final UpdateBookUseCase updateBookUseCase,
-            final ListBooksUseCase listBooksUseCase
+            final ListBooksUseCase listBooksUseCase,
+            final GetLoansByBookUseCase getLoansByBookUseCase,
+            final ImportBooksUseCase importBooksUseCase,
+            final ObjectMapper mapper
     ) {
         this.createBookUseCase = Objects.requireNonNull(createBookUseCase);
         this.getBookByIdUseCase = Objects.requireNonNull(getBookByIdUseCase);
         this.deleteBookUseCase = Objects.requireNonNull(deleteBookUseCase);
         this.updateBookUseCase = Objects.requireNonNull(updateBookUseCase);
         this.listBooksUseCase = Objects.requireNonNull(listBooksUseCase);
+        this.getLoansByBookUseCase = Objects.requireNonNull(getLoansByBookUseCase);
+        this.importBooksUseCase = Objects.requireNonNull(importBooksUseCase);
+        this.mapper = Objects.requireNonNull(mapper);
     }
 
     @Override
@@ -44,11 +62,46 @@ public class BookController implements BookAPI {
                 .body(output);
     }
 
+    @Override
+    public ResponseEntity<?> importBooks(final InputStream body) {
+        try (final MappingIterator<CreateBookRequest> requests = this.mapper.readerFor(CreateBookRequest.class).readValues(body)) {
+            // a row that fails to map is reported on its own; a payload that can no longer be read ends the import
+            // with the rows read so far, since earlier chunks are already committed
+            final var inputs = new Iterator<CreateBookUseCase.Input>() {
+                @Override
+                public boolean hasNext() {
+                    try {
+                        return requests.hasNextValue();
+                    } catch (final IOException e) {
+                        throw DomainException.with(Error.with("Malformed books payload, the remaining rows were not read"));
+                    }
+                }
+
+                @Override
+                public CreateBookUseCase.Input next() {
+                    try {
+                        return CreateBookUseCase.Input.from(requests.nextValue());
+                    } catch (final IOException e) {
+                        throw DomainException.with(Error.with("Malformed book"));
+                    }
+                }
+            };
+            return ResponseEntity.ok(this.importBooksUseCase.execute(inputs));
+        } catch (final IOException e) {
+            throw DomainException.with(Error.with("Malformed books payload"));
+        }
+    }
+
     @Override
     public ResponseEntity<BookResponse> getById(final String id) {
         return ResponseEntity.ok(BookPresenter.present(this.getBookByIdUseCase.execute(id)));
     }
 
+    @Override
+    public ResponseEntity<LoansByBookResponse> getLoansById(final String id) {
+        return ResponseEntity.ok(BookPresenter.present(this.getLoansByBookUseCase.execute(id)));
+    }
+
     @Override
     public void deleteById(final String id) {
         this.deleteBookUseCase.execute(id);
@@ -65,9 +118,11 @@ public class BookController implements BookAPI {
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String cursor,
+            final boolean count
     ) {
-        final var query = new SearchQuery(page, perPage, search, sort, direction);
+        final var query = new SearchQuery(page, perPage, search, sort, direction, cursor, count);
         return this.listBooksUseCase.execute(query).map(BookPresenter::present);
     }
 }
@@ -1,13 +1,17 @@
 package io.github.gabrielmsouza.library.infrastructure.api.controllers;
 
 import io.github.gabrielmsouza.library.application.loan.CreateLoanUseCase;
+import io.github.gabrielmsouza.library.application.loan.CreateLoansUseCase;
 import io.github.gabrielmsouza.library.application.loan.ListLoansUseCase;
 import io.github.gabrielmsouza.library.application.loan.ReturnLoanUseCase;
+import io.github.gabrielmsouza.library.application.loan.ReturnLoansUseCase;
 import io.github.gabrielmsouza.library.domain.loan.LoanSearchQuery;
 import io.github.gabrielmsouza.library.domain.pagination.Pagination;
 import io.github.gabrielmsouza.library.infrastructure.api.LoanAPI;
 import io.github.gabrielmsouza.library.infrastructure.loan.models.CreateLoanRequest;
+import io.github.gabrielmsouza.library.infrastructure.loan.models.CreateLoansRequest;
 import io.github.gabrielmsouza.library.infrastructure.loan.models.ListLoansResponse;
+import io.github.gabrielmsouza.library.infrastructure.loan.models.ReturnLoansRequest;
 import io.github.gabrielmsouza.library.infrastructure.loan.present.LoanPresent;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
@@ -20,15 +24,21 @@ public class LoanController implements LoanAPI {
     private final CreateLoanUseCase createLoanUseCase;
     private final ReturnLoanUseCase returnLoanUseCase;
     private final ListLoansUseCase listLoansUseCase;
+    private final CreateLoansUseCase createLoansUseCase;
+    private final ReturnLoansUseCase returnLoansUseCase;
 
     public LoanController(
             final CreateLoanUseCase createLoanUseCase,
             final ReturnLoanUseCase returnLoanUseCase,
-            final ListLoansUseCase listLoansUseCase
+            final ListLoansUseCase listLoansUseCase,
+            final CreateLoansUseCase createLoansUseCase,
+            final ReturnLoansUseCase returnLoansUseCase
     ) {
         this.createLoanUseCase = Objects.requireNonNull(createLoanUseCase);
         this.returnLoanUseCase = Objects.requireNonNull(returnLoanUseCase);
         this.listLoansUseCase = Objects.requireNonNull(listLoansUseCase);
+        this.createLoansUseCase = Objects.requireNonNull(createLoansUseCase);
+        this.returnLoansUseCase = Objects.requireNonNull(returnLoansUseCase);
     }
 
     @Override
@@ -39,6 +49,16 @@ public class LoanController implements LoanAPI {
                 .body(output);
     }
 
+    @Override
+    public ResponseEntity<?> createBatch(final CreateLoansRequest request) {
+        return ResponseEntity.ok(this.createLoansUseCase.execute(CreateLoansUseCase.Input.from(request)));
+    }
+
+    @Override
+    public ResponseEntity<?> returnedBatch(final ReturnLoansRequest request) {
+        return ResponseEntity.ok(this.returnLoansUseCase.execute(ReturnLoansUseCase.Input.from(request)));
+    }
+
     @Override
     public void returned(final String id) {
         this.returnLoanUseCase.execute(id);
@@ -51,7 +71,9 @@ public class LoanController implements LoanAPI {
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String cursor,
+            final boolean count
     ) {
         final var query = new LoanSearchQuery(
                 page,
@@ -59,7 +81,9 @@ public class LoanController implements LoanAPI {
                 isbn,
                 customerId,
                 sort,
-                direction
+                direction,
+                cursor,
+                count
         );
         return this.listLoansUseCase.execute(query).map(LoanPresent::present);
     }
@@ -2,35 +2,131 @@ package io.github.gabrielmsouza.library.infrastructure.book;
 
 import io.github.gabrielmsouza.library.domain.book.Book;
 import io.github.gabrielmsouza.library.domain.book.BookGateway;
+import io.github.gabrielmsouza.library.domain.exceptions.DomainException;
+import io.github.gabrielmsouza.library.domain.exceptions.NotificationException;
 import io.github.gabrielmsouza.library.domain.pagination.Pagination;
 import io.github.gabrielmsouza.library.domain.pagination.SearchQuery;
+import io.github.gabrielmsouza.library.domain.validation.Error;
+import io.github.gabrielmsouza.library.domain.validation.handler.Notification;
 import io.github.gabrielmsouza.library.infrastructure.book.persistnce.BookJpaEntity;
 import io.github.gabrielmsouza.library.infrastructure.book.persistnce.BookRepository;
+import io.github.gabrielmsouza.library.infrastructure.book.persistnce.BookSearchTokenJpaEntity;
+import io.github.gabrielmsouza.library.infrastructure.book.persistnce.BookSearchTokenRepository;
+import io.github.gabrielmsouza.library.infrastructure.book.persistnce.BookSummary;
+import io.github.gabrielmsouza.library.infrastructure.pagination.ApproximateCountCache;
+import io.github.gabrielmsouza.library.infrastructure.utils.CursorUtils;
+import io.github.gabrielmsouza.library.infrastructure.utils.JpaUtils;
+import io.github.gabrielmsouza.library.infrastructure.utils.SearchUtils;
 import io.github.gabrielmsouza.library.infrastructure.utils.SpecificationUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.Session;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 public class BookH2Gateway implements BookGateway {
+    private static final String RELEVANCE = "relevance";
+    private static final String ISBN_CONSTRAINT = "uk_books_isbn";
+    private static final int IN_CLAUSE_CHUNK_SIZE = 500;
+
+    private static final String SEARCH_HITS = """
+            SELECT t.book_id, SUM(t.weight) AS score
+            FROM book_search_tokens t
+            WHERE t.token IN (:tokens)
+            GROUP BY t.book_id
+            HAVING COUNT(*) = :size %s
+            ORDER BY score DESC, t.book_id ASC
+            """;
+
+    private static final String SEEK_HITS =
+            "AND (SUM(t.weight) < :score OR (SUM(t.weight) = :score AND t.book_id > :id))";
+
+    private static final String COUNT_HITS = """
+            SELECT COUNT(*) FROM (
+                SELECT t.book_id
+                FROM book_search_tokens t
+                WHERE t.token IN (:tokens)
+                GROUP BY t.book_id
+                HAVING COUNT(*) = :size
+            ) hits
+            """;
+
     private final BookRepository bookRepository;
+    private final BookSearchTokenRepository tokenRepository;
+    private final EntityManager entityManager;
+    private final ApproximateCountCache countCache;
 
-    public BookH2Gateway(final BookRepository bookRepository) {
+    public BookH2Gateway(
+            final BookRepository bookRepository,
+            final BookSearchTokenRepository tokenRepository,
+            final EntityManager entityManager,
+            final ApproximateCountCache countCache
+    ) {
         this.bookRepository = Objects.requireNonNull(bookRepository);
+        this.tokenRepository = Objects.requireNonNull(tokenRepository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.countCache = Objects.requireNonNull(countCache);
     }
 
     @Override
+    @Transactional
     public Book create(final Book book) {
-        return save(book);
+        final Book created;
+        try {
+            created = this.bookRepository.saveAndFlush(BookJpaEntity.from(book)).toBook();
+        } catch (final DataIntegrityViolationException e) {
+            if (isIsbnViolation(e)) {
+                final var error = Error.with("Already exists a book with isbn %s".formatted(book.getIsbn()));
+                throw NotificationException.with("Invalid book", Notification.create(error));
+            }
+            throw e;
+        }
+        index(created, List.of());
+        return created;
+    }
+
+    @Override
+    @Transactional
+    public List<Book> createAll(final List<Book> books) {
+        try {
+            books.forEach(book -> {
+                this.entityManager.persist(BookJpaEntity.from(book));
+                BookSearchTokenJpaEntity.from(book).forEach(this.entityManager::persist);
+            });
+            this.entityManager.flush();
+        } catch (final PersistenceException e) {
+            if (isIsbnViolation(e)) {
+                final var error = Error.with("One of the isbns was created by another request");
+                throw NotificationException.with("Invalid book", Notification.create(error));
+            }
+            throw e;
+        }
+        this.entityManager.clear();
+        return books;
     }
 
     @Override
+    @Transactional
     public Book update(final Book book) {
-        return save(book);
+        final var updated = save(book);
+        index(updated, this.tokenRepository.findAllByBookId(updated.getId()));
+        return updated;
     }
 
     @Override
@@ -39,14 +135,34 @@ public class BookH2Gateway implements BookGateway {
         return this.bookRepository.findById(id).map(BookJpaEntity::toBook);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Book> findByIdWithLoans(final String id) {
+        return this.bookRepository.findProjectedById(id, BookSummary.class)
+                .map(summary -> summary.toBook(this.bookRepository.findLoanIdsByBookId(id)));
+    }
+
     @Override
     public boolean existsByIsbn(final String isbn) {
         return this.bookRepository.existsByIsbn(isbn);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Set<String> findExistingIsbns(final Collection<String> isbns) {
+        final var distinct = isbns.stream().filter(Objects::nonNull).distinct().toList();
+        final var existing = new HashSet<String>();
+        for (int from = 0; from < distinct.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            existing.addAll(this.bookRepository.findExistingIsbns(distinct.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, distinct.size()))));
+        }
+        return existing;
+    }
+
+    @Override
+    @Transactional
     public void deleteById(final String id) {
         if (this.bookRepository.existsById(id)) {
+            this.tokenRepository.deleteAllByBookId(id);
             this.bookRepository.deleteById(id);
         }
     }
@@ -54,36 +170,202 @@ public class BookH2Gateway implements BookGateway {
     @Override
     @Transactional(readOnly = true)
     public Pagination<Book> findAll(final SearchQuery query) {
-        final var page = PageRequest.of(
-            query.page(),
-            query.perPage(),
-            Sort.by(Sort.Direction.fromString(query.direction()), query.sort())
-        );
+        final var tokens = SearchUtils.tokens(query.terms());
+        if (!tokens.isEmpty()) {
+            return search(query, tokens);
+        }
 
-        final var where = Optional.ofNullable(query.terms())
-            .filter(terms -> !terms.isBlank())
-            .map(terms ->
-                    SpecificationUtils.<BookJpaEntity>like("title", terms)
-                        .or(SpecificationUtils.like("author", terms))
-                        .or(SpecificationUtils.like("isbn", terms)))
-                .orElse(null);
+        final var sort = Sort.by(Sort.Direction.fromString(query.direction()), query.sort(), "id");
+        if (Objects.nonNull(query.cursor()) && !query.cursor().isBlank()) {
+            return seek(query, sort);
+        }
+        if (!query.countTotal()) {
+            return slice(query, sort);
+        }
 
-        final var result = this.bookRepository.findAll(where, page);
+        final var page = PageRequest.of(query.page(), query.perPage(), sort);
+        final var result = this.bookRepository.findProjectedBy(page, BookSummary.class);
+        final var content = result.getContent().stream().map(BookSummary::toBook).toList();
         return new Pagination<>(
                 result.getNumber(),
                 result.getSize(),
                 result.getTotalElements(),
-                result.getContent().stream().map(BookJpaEntity::toBook).toList()
+                content,
+                result.hasNext(),
+                result.hasNext() ? CursorUtils.next(query.sort(), content.getLast(), Book::getId) : null
         );
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Book> findAllByIds(final Collection<String> ids) {
+        final var distinct = ids.stream().filter(Objects::nonNull).distinct().toList();
+        final var books = new ArrayList<Book>(distinct.size());
+        for (int from = 0; from < distinct.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            final var chunk = distinct.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, distinct.size()));
+            this.bookRepository.findProjectedByIdIn(chunk, BookSummary.class)
+                    .forEach(summary -> books.add(summary.toBook()));
+        }
+        return books;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<Book> findByIsbn(final String isbn) {
-        return this.bookRepository.findByIsbn(isbn).map(BookJpaEntity::toBook);
+        return this.entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(BookJpaEntity.class)
+                .loadOptional(isbn)
+                .map(BookJpaEntity::toBook);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Book> findAllByIsbns(final Collection<String> isbns) {
+        final var distinct = isbns.stream().filter(Objects::nonNull).distinct().toList();
+        final var books = new ArrayList<Book>(distinct.size());
+        for (int from = 0; from < distinct.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            final var chunk = distinct.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, distinct.size()));
+            this.bookRepository.findProjectedByIsbnIn(chunk, BookSummary.class)
+                    .forEach(summary -> books.add(summary.toBook()));
+        }
+        return books;
+    }
+
+    private Pagination<Book> seek(final SearchQuery query, final Sort sort) {
+        final var cursor = CursorUtils.decode(query.sort(), query.cursor());
+        final var seek = SpecificationUtils.<BookJpaEntity>seek(query.sort(), query.direction(), cursor);
+
+        final var rows = JpaUtils.findAll(this.entityManager, BookJpaEntity.class, BookSummary.class, seek, sort, 0, query.perPage() + 1);
+        return toPagination(query, rows, approximateTotal());
+    }
+
+    private Pagination<Book> slice(final SearchQuery query, final Sort sort) {
+        final var offset = query.page() * query.perPage();
+        final var rows = JpaUtils.findAll(this.entityManager, BookJpaEntity.class, BookSummary.class, null, sort, offset, query.perPage() + 1);
+        final long seen = offset + rows.size();
+        return toPagination(query, rows, Math.max(seen, approximateTotal()));
+    }
+
+    private Pagination<Book> toPagination(final SearchQuery query, final List<BookSummary> rows, final long total) {
+        final var hasNext = rows.size() > query.perPage();
+        final var content = (hasNext ? rows.subList(0, query.perPage()) : rows).stream()
+                .map(BookSummary::toBook)
+                .toList();
+        return new Pagination<>(
+                query.page(),
+                query.perPage(),
+                total,
+                content,
+                hasNext,
+                hasNext ? CursorUtils.next(query.sort(), content.getLast(), Book::getId) : null
+        );
+    }
+
+    private long approximateTotal() {
+        return this.countCache.approximate("books", this.bookRepository::count);
+    }
+
+    private Pagination<Book> search(final SearchQuery query, final List<String> tokens) {
+        final var cursor = Objects.nonNull(query.cursor()) && !query.cursor().isBlank()
+                ? CursorUtils.decode(RELEVANCE, query.cursor())
+                : null;
+        final var offset = Objects.isNull(cursor) ? query.page() * query.perPage() : 0;
+
+        final var hits = searchHits(tokens, cursor, offset, query.perPage() + 1);
+        final var hasNext = hits.size() > query.perPage();
+        final var content = hasNext ? hits.subList(0, query.perPage()) : hits;
+
+        final long total;
+        if (Objects.isNull(cursor) && query.countTotal()) {
+            total = countHits(tokens);
+        } else {
+            final var approximate = this.countCache.approximate("books:" + String.join(" ", tokens), () -> countHits(tokens));
+            total = Objects.isNull(cursor) ? Math.max(offset + hits.size(), approximate) : approximate;
+        }
+
+        final var ids = content.stream().map(hit -> (String) hit[0]).toList();
+        final var books = this.bookRepository.findProjectedByIdIn(ids, BookSummary.class).stream()
+                .collect(Collectors.toMap(BookSummary::id, Function.identity()));
+
+        return new Pagination<>(
+                query.page(),
+                query.perPage(),
+                total,
+                ids.stream().map(books::get).filter(Objects::nonNull).map(BookSummary::toBook).toList(),
+                hasNext,
+                hasNext ? CursorUtils.encode(RELEVANCE, (String) content.getLast()[0], score(content.getLast())) : null
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> searchHits(
+            final List<String> tokens,
+            final CursorUtils.Cursor cursor,
+            final int offset,
+            final int limit
+    ) {
+        final var nativeQuery = this.entityManager
+                .createNativeQuery(SEARCH_HITS.formatted(Objects.isNull(cursor) ? "" : SEEK_HITS))
+                .setParameter("tokens", tokens)
+                .setParameter("size", tokens.size())
+                .setFirstResult(offset)
+                .setMaxResults(limit);
+
+        if (Objects.nonNull(cursor)) {
+            nativeQuery
+                    .setParameter("score", toScore(cursor))
+                    .setParameter("id", cursor.id());
+        }
+        return nativeQuery.getResultList();
+    }
+
+    private long countHits(final List<String> tokens) {
+        final var count = this.entityManager.createNativeQuery(COUNT_HITS)
+                .setParameter("tokens", tokens)
+                .setParameter("size", tokens.size())
+                .getSingleResult();
+        return ((Number) count).longValue();
+    }
+
+    private static String score(final Object[] hit) {
+        return String.valueOf(((Number) hit[1]).longValue());
+    }
+
+    private static long toScore(final CursorUtils.Cursor cursor) {
+        try {
+            return Long.parseLong(Objects.requireNonNull(cursor.value()));
+        } catch (final NumberFormatException | NullPointerException e) {
+            throw DomainException.with(Error.with("'cursor' is not valid for sort '%s'".formatted(RELEVANCE)));
+        }
+    }
+
+    private void index(final Book book, final List<BookSearchTokenJpaEntity> current) {
+        final Map<String, Integer> weights = BookSearchTokenJpaEntity.weights(book);
+
+        final var stale = current.stream().filter(token -> !weights.containsKey(token.getToken())).toList();
+        this.tokenRepository.deleteAll(stale);
+
+        final var existing = current.stream()
+                .filter(token -> weights.containsKey(token.getToken()))
+                .collect(Collectors.toMap(BookSearchTokenJpaEntity::getToken, Function.identity()));
+        existing.forEach((token, entity) -> entity.setWeight(weights.get(token)));
+
+        BookSearchTokenJpaEntity.from(book).stream()
+                .filter(token -> !existing.containsKey(token.getToken()))
+                .forEach(this.entityManager::persist);
+    }
+
+    private static boolean isIsbnViolation(final Throwable e) {
+        for (var cause = e; Objects.nonNull(cause); cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return Objects.nonNull(violation.getConstraintName())
+                        && violation.getConstraintName().toLowerCase().contains(ISBN_CONSTRAINT);
+            }
+        }
+        return false;
     }
 
     private Book save(final Book book) {
-        return this.bookRepository.save(BookJpaEntity.from(book)).toBook();
+        return this.bookRepository.save(BookJpaEntity.fromExisting(book)).toBook();
     }
 }
@@ -0,0 +1,176 @@
+package io.github.gabrielmsouza.library.infrastructure.book;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.gabrielmsouza.library.domain.book.Book;
+import io.github.gabrielmsouza.library.domain.book.BookGateway;
+import io.github.gabrielmsouza.library.domain.pagination.Pagination;
+import io.github.gabrielmsouza.library.domain.pagination.SearchQuery;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+@Primary
+@Component
+public class CachedBookGateway implements BookGateway {
+    private static final int ENTRY_OVERHEAD = 64;
+    private static final int LOAN_ID_WEIGHT = 80;
+
+    private final BookGateway delegate;
+    private final IsbnBloomFilter isbnFilter;
+    private final Cache<String, Book> booksById;
+    private final Cache<String, String> idsByIsbn;
+
+    public CachedBookGateway(
+            final BookH2Gateway delegate,
+            final IsbnBloomFilter isbnFilter,
+            final MeterRegistry meterRegistry,
+            @Value("${cache.gateway.books.ttl:5m}") final Duration ttl,
+            @Value("${cache.gateway.books.max-size:16MB}") final DataSize maxSize
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.isbnFilter = Objects.requireNonNull(isbnFilter);
+        this.booksById = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((String id, Book book) -> weigh(book))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.idsByIsbn = Caffeine.newBuilder()
+                .maximumSize(maxSize.toBytes() / ENTRY_OVERHEAD)
+                .expireAfterWrite(ttl)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, this.booksById, "gateway.books");
+    }
+
+    @Override
+    public Book create(final Book book) {
+        return cache(this.delegate.create(book));
+    }
+
+    @Override
+    public List<Book> createAll(final List<Book> books) {
+        final var created = this.delegate.createAll(books);
+        created.forEach(book -> this.isbnFilter.put(book.getIsbn()));
+        return created;
+    }
+
+    @Override
+    public Book update(final Book book) {
+        Optional.ofNullable(this.booksById.getIfPresent(book.getId()))
+                .ifPresent(previous -> this.idsByIsbn.invalidate(previous.getIsbn()));
+        return cache(this.delegate.update(book));
+    }
+
+    @Override
+    public Optional<Book> findById(final String id) {
+        final var cached = this.booksById.getIfPresent(id);
+        if (Objects.nonNull(cached)) {
+            return Optional.of(Book.with(cached));
+        }
+        return this.delegate.findById(id).map(this::cache);
+    }
+
+    @Override
+    public Optional<Book> findByIdWithLoans(final String id) {
+        return this.delegate.findByIdWithLoans(id);
+    }
+
+    @Override
+    public List<Book> findAllByIds(final Collection<String> ids) {
+        final var cached = this.booksById.getAllPresent(ids);
+        final var missing = ids.stream().filter(id -> !cached.containsKey(id)).distinct().toList();
+
+        final var books = new ArrayList<Book>(cached.size() + missing.size());
+        cached.values().forEach(book -> books.add(Book.with(book)));
+        if (missing.isEmpty()) {
+            return books;
+        }
+        this.delegate.findAllByIds(missing).forEach(book -> books.add(cache(book)));
+        return books;
+    }
+
+    @Override
+    public boolean existsByIsbn(final String isbn) {
+        if (!this.isbnFilter.mightContain(isbn)) {
+            return false;
+        }
+        return findCachedByIsbn(isbn).isPresent() || this.delegate.existsByIsbn(isbn);
+    }
+
+    @Override
+    public Set<String> findExistingIsbns(final Collection<String> isbns) {
+        final var candidates = isbns.stream().filter(this.isbnFilter::mightContain).toList();
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        return this.delegate.findExistingIsbns(candidates);
+    }
+
+    @Override
+    public void deleteById(final String id) {
+        this.delegate.deleteById(id);
+        Optional.ofNullable(this.booksById.getIfPresent(id))
+                .ifPresent(previous -> this.idsByIsbn.invalidate(previous.getIsbn()));
+        this.booksById.invalidate(id);
+    }
+
+    @Override
+    public Pagination<Book> findAll(final SearchQuery query) {
+        return this.delegate.findAll(query);
+    }
+
+    @Override
+    public Optional<Book> findByIsbn(final String isbn) {
+        return findCachedByIsbn(isbn).or(() -> this.delegate.findByIsbn(isbn).map(this::cache));
+    }
+
+    @Override
+    public List<Book> findAllByIsbns(final Collection<String> isbns) {
+        final var books = new ArrayList<Book>(isbns.size());
+        final var missing = new ArrayList<String>();
+        isbns.stream().distinct().forEach(isbn -> findCachedByIsbn(isbn).ifPresentOrElse(books::add, () -> missing.add(isbn)));
+        if (missing.isEmpty()) {
+            return books;
+        }
+        this.delegate.findAllByIsbns(missing).forEach(book -> books.add(cache(book)));
+        return books;
+    }
+
+    private Optional<Book> findCachedByIsbn(final String isbn) {
+        final var id = this.idsByIsbn.getIfPresent(isbn);
+        if (Objects.isNull(id)) {
+            return Optional.empty();
+        }
+        final var cached = this.booksById.getIfPresent(id);
+        if (Objects.isNull(cached) || !cached.getIsbn().equals(isbn)) {
+            this.idsByIsbn.invalidate(isbn);
+            return Optional.empty();
+        }
+        return Optional.of(Book.with(cached));
+    }
+
+    private Book cache(final Book book) {
+        this.isbnFilter.put(book.getIsbn());
+        this.booksById.put(book.getId(), Book.with(book));
+        this.idsByIsbn.put(book.getIsbn(), book.getId());
+        return book;
+    }
+
+    private static int weigh(final Book book) {
+        return ENTRY_OVERHEAD
+                + 2 * (book.getId().length() + book.getTitle().length() + book.getAuthor().length() + book.getIsbn().length())
+                + LOAN_ID_WEIGHT * book.getLoans().size();
+    }
+}
@@ -0,0 +1,159 @@
+package io.github.gabrielmsouza.library.infrastructure.book;
+
+import io.github.gabrielmsouza.library.infrastructure.book.persistnce.BookRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class IsbnBloomFilter {
+    private static final Logger LOG = LoggerFactory.getLogger(IsbnBloomFilter.class);
+    private static final int BATCH_SIZE = 10_000;
+
+    private final BookRepository repository;
+    private final int numBits;
+    private final int numHashes;
+
+    private volatile Bits current;
+    private volatile Bits next;
+    private volatile boolean ready;
+
+    public IsbnBloomFilter(
+            final BookRepository repository,
+            final MeterRegistry meterRegistry,
+            @Value("${books.isbn-filter.expected-insertions:1000000}") final long expectedInsertions,
+            @Value("${books.isbn-filter.false-positive-rate:0.01}") final double falsePositiveRate
+    ) {
+        this.repository = Objects.requireNonNull(repository);
+        final var bits = Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.numBits = (int) Math.max(64, Math.min(Integer.MAX_VALUE - 63, bits));
+        this.numHashes = (int) Math.max(1, Math.round((double) this.numBits / expectedInsertions * Math.log(2)));
+        this.current = new Bits(this.numBits, this.numHashes);
+
+        Gauge.builder("books.isbn.filter.false.positive.rate", this, IsbnBloomFilter::expectedFalsePositiveRate)
+                .register(meterRegistry);
+        Gauge.builder("books.isbn.filter.memory", this, IsbnBloomFilter::memoryInBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("books.isbn.filter.insertions", this, filter -> filter.current.insertions())
+                .register(meterRegistry);
+    }
+
+    public boolean mightContain(final String isbn) {
+        return !this.ready || this.current.mightContain(isbn);
+    }
+
+    public void put(final String isbn) {
+        this.current.put(isbn);
+        final var pending = this.next;
+        if (Objects.nonNull(pending)) {
+            pending.put(isbn);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Thread.ofVirtual().name("isbn-bloom-filter").start(this::rebuild);
+    }
+
+    @Scheduled(cron = "${books.isbn-filter.rebuild-cron:0 30 3 * * *}")
+    public synchronized void rebuild() {
+        final var bits = new Bits(this.numBits, this.numHashes);
+        this.next = bits;
+        try {
+            var after = "";
+            List<String> batch;
+            do {
+                batch = this.repository.findIsbnsAfter(after, PageRequest.of(0, BATCH_SIZE));
+                batch.forEach(bits::put);
+                if (!batch.isEmpty()) {
+                    after = batch.getLast();
+                }
+            } while (batch.size() == BATCH_SIZE);
+
+            this.current = bits;
+            this.ready = true;
+        } catch (final RuntimeException e) {
+            LOG.warn("Failed to build the ISBN bloom filter, existence checks keep going to the database", e);
+        } finally {
+            this.next = null;
+        }
+    }
+
+    public double expectedFalsePositiveRate() {
+        final var fill = -this.numHashes * (double) this.current.insertions() / this.numBits;
+        return Math.pow(1 - Math.exp(fill), this.numHashes);
+    }
+
+    public long memoryInBytes() {
+        return (long) this.current.words.length() * Long.BYTES;
+    }
+
+    private static final class Bits {
+        private final AtomicLongArray words;
+        private final int size;
+        private final int hashes;
+        private final LongAdder insertions = new LongAdder();
+
+        private Bits(final int size, final int hashes) {
+            this.words = new AtomicLongArray((size + 63) >>> 6);
+            this.size = size;
+            this.hashes = hashes;
+        }
+
+        private void put(final String value) {
+            final var hash = hash64(value);
+            for (int i = 1; i <= this.hashes; i++) {
+                final var index = indexOf(hash, i);
+                this.words.getAndAccumulate(index >>> 6, 1L << index, (word, mask) -> word | mask);
+            }
+            this.insertions.increment();
+        }
+
+        private boolean mightContain(final String value) {
+            final var hash = hash64(value);
+            for (int i = 1; i <= this.hashes; i++) {
+                final var index = indexOf(hash, i);
+                if ((this.words.get(index >>> 6) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private long insertions() {
+            return this.insertions.sum();
+        }
+
+        private int indexOf(final long hash, final int i) {
+            final var combined = (int) hash + i * (int) (hash >>> 32);
+            return (combined < 0 ? ~combined : combined) % this.size;
+        }
+
+        private static long hash64(final String value) {
+            var hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            hash *= 0xc4ceb9fe1a85ec53L;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+}
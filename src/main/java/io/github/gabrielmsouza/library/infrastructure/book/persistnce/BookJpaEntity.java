@@ -3,13 +3,22 @@ package io.github.gabrielmsouza.library.infrastructure.book.persistnce;
 import io.github.gabrielmsouza.library.domain.book.Book;
 import io.github.gabrielmsouza.library.infrastructure.loan.persistence.LoanJpaEntity;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.springframework.data.domain.Persistable;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity(name = "Books")
 @Table(name = "books")
-public class BookJpaEntity {
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "books")
+@NaturalIdCache(region = "books-isbn")
+public class BookJpaEntity implements Persistable<String> {
     @Id
     @Column(name = "id", nullable = false)
     private String id;
@@ -20,12 +29,17 @@ public class BookJpaEntity {
     @Column(name = "author", nullable = false)
     private String author;
 
+    @NaturalId(mutable = true)
     @Column(name = "isbn", nullable = false, unique = true)
     private String isbn;
 
-    @OneToMany(mappedBy = "book", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
+    @BatchSize(size = 50)
+    @OneToMany(mappedBy = "book", cascade = CascadeType.REMOVE, fetch = FetchType.LAZY)
     private List<LoanJpaEntity> loans;
 
+    @Transient
+    private boolean isNew = true;
+
     @Deprecated
     BookJpaEntity() {}
 
@@ -42,14 +56,18 @@ public class BookJpaEntity {
     }
 
     public static BookJpaEntity from(final Book book) {
-        final var bookEntity = new BookJpaEntity(
+        return new BookJpaEntity(
                 book.getId(),
                 book.getTitle(),
                 book.getAuthor(),
                 book.getIsbn()
         );
-        book.getLoans().forEach(bookEntity::addLoan);
-        return bookEntity;
+    }
+
+    public static BookJpaEntity fromExisting(final Book book) {
+        final var entity = from(book);
+        entity.isNew = false;
+        return entity;
     }
 
     public static BookJpaEntity from(final String id) {
@@ -57,12 +75,21 @@ public class BookJpaEntity {
     }
 
     public Book toBook() {
-        final var loans = this.loans.stream()
-                .map(LoanJpaEntity::getId)
-                .toList();
-        return Book.with(this.id, this.title, this.author, this.isbn, loans);
+        return Book.with(this.id, this.title, this.author, this.isbn, List.of());
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
     }
 
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
     public String getId() {
         return id;
     }
@@ -102,8 +129,4 @@ public class BookJpaEntity {
     public void setLoans(List<LoanJpaEntity> loans) {
         this.loans = loans;
     }
-
-    private void addLoan(final String loanId) {
-        this.loans.add(LoanJpaEntity.from(loanId));
-    }
 }
@@ -1,10 +1,17 @@
 package io.github.gabrielmsouza.library.infrastructure.book.persistnce;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface BookRepository extends JpaRepository<BookJpaEntity, String> {
@@ -12,4 +19,24 @@ public interface BookRepository extends JpaRepository<BookJpaEntity, String> {
     Page<BookJpaEntity> findAll(Specification<BookJpaEntity> whereClause, Pageable page);
     Optional<BookJpaEntity> findByIsbn(String isbn);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    <T> Optional<T> findProjectedById(String id, Class<T> type);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    <T> List<T> findProjectedByIdIn(Collection<String> ids, Class<T> type);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    <T> List<T> findProjectedByIsbnIn(Collection<String> isbns, Class<T> type);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    <T> Page<T> findProjectedBy(Pageable page, Class<T> type);
+
+    @Query("SELECT b.isbn FROM Books b WHERE b.isbn IN :isbns")
+    List<String> findExistingIsbns(@Param("isbns") Collection<String> isbns);
+
+    @Query("SELECT b.isbn FROM Books b WHERE b.isbn > :after ORDER BY b.isbn")
+    List<String> findIsbnsAfter(@Param("after") String after, Pageable page);
+
+    @Query("SELECT l.id FROM Loans l WHERE l.bookId = :bookId ORDER BY l.loanDate, l.id")
+    List<String> findLoanIdsByBookId(@Param("bookId") String bookId);
 }
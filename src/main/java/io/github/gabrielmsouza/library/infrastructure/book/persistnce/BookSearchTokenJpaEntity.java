@@ -0,0 +1,117 @@
+package io.github.gabrielmsouza.library.infrastructure.book.persistnce;
+
+import io.github.gabrielmsouza.library.domain.book.Book;
+import io.github.gabrielmsouza.library.infrastructure.utils.SearchUtils;
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Entity(name = "BookSearchTokens")
+@Table(
+    name = "book_search_tokens",
+    indexes = @Index(name = "idx_book_search_tokens_book_id", columnList = "book_id")
+)
+@IdClass(BookSearchTokenJpaEntity.TokenId.class)
+public class BookSearchTokenJpaEntity {
+    private static final int TITLE_WEIGHT = 3;
+    private static final int AUTHOR_WEIGHT = 2;
+    private static final int ISBN_WEIGHT = 1;
+
+    @Id
+    @Column(name = "token", nullable = false, length = SearchUtils.MAX_TOKEN_LENGTH)
+    private String token;
+
+    @Id
+    @Column(name = "book_id", nullable = false)
+    private String bookId;
+
+    @Column(name = "weight", nullable = false)
+    private int weight;
+
+    @Deprecated
+    BookSearchTokenJpaEntity() {}
+
+    private BookSearchTokenJpaEntity(final String token, final String bookId, final int weight) {
+        this.token = token;
+        this.bookId = bookId;
+        this.weight = weight;
+    }
+
+    public static List<BookSearchTokenJpaEntity> from(final Book book) {
+        return weights(book).entrySet().stream()
+                .map(entry -> new BookSearchTokenJpaEntity(entry.getKey(), book.getId(), entry.getValue()))
+                .toList();
+    }
+
+    public static Map<String, Integer> weights(final Book book) {
+        final var weights = new HashMap<String, Integer>();
+        index(weights, SearchUtils.tokens(book.getTitle()), TITLE_WEIGHT);
+        index(weights, SearchUtils.tokens(book.getAuthor()), AUTHOR_WEIGHT);
+
+        final var isbn = SearchUtils.tokens(book.getIsbn());
+        index(weights, isbn, ISBN_WEIGHT);
+        if (isbn.size() > 1) {
+            index(weights, List.of(SearchUtils.compact(book.getIsbn())), ISBN_WEIGHT);
+        }
+        return weights;
+    }
+
+    private static void index(final Map<String, Integer> weights, final List<String> tokens, final int weight) {
+        tokens.forEach(token -> {
+            weights.merge(token, weight * 2, Integer::sum);
+            SearchUtils.prefixes(token).forEach(prefix -> weights.merge(prefix, weight, Integer::sum));
+        });
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    public String getBookId() {
+        return bookId;
+    }
+
+    public void setBookId(String bookId) {
+        this.bookId = bookId;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public void setWeight(int weight) {
+        this.weight = weight;
+    }
+
+    public static class TokenId implements Serializable {
+        private String token;
+        private String bookId;
+
+        public TokenId() {}
+
+        public TokenId(final String token, final String bookId) {
+            this.token = token;
+            this.bookId = bookId;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof TokenId that)) return false;
+            return Objects.equals(token, that.token) && Objects.equals(bookId, that.bookId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(token, bookId);
+        }
+    }
+}
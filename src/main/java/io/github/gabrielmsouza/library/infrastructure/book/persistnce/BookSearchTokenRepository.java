@@ -0,0 +1,16 @@
+package io.github.gabrielmsouza.library.infrastructure.book.persistnce;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface BookSearchTokenRepository extends JpaRepository<BookSearchTokenJpaEntity, BookSearchTokenJpaEntity.TokenId> {
+    List<BookSearchTokenJpaEntity> findAllByBookId(String bookId);
+
+    @Modifying
+    @Query("DELETE FROM BookSearchTokens t WHERE t.bookId = :bookId")
+    void deleteAllByBookId(@Param("bookId") String bookId);
+}
@@ -0,0 +1,15 @@
+package io.github.gabrielmsouza.library.infrastructure.book.persistnce;
+
+import io.github.gabrielmsouza.library.domain.book.Book;
+
+import java.util.List;
+
+public record BookSummary(String id, String title, String author, String isbn) {
+    public Book toBook() {
+        return toBook(List.of());
+    }
+
+    public Book toBook(final List<String> loans) {
+        return Book.with(this.id, this.title, this.author, this.isbn, loans);
+    }
+}
@@ -1,9 +1,11 @@
 package io.github.gabrielmsouza.library.infrastructure.book.presenter;
 
 import io.github.gabrielmsouza.library.application.book.GetBookByIdUseCase;
+import io.github.gabrielmsouza.library.application.book.GetLoansByBookUseCase;
 import io.github.gabrielmsouza.library.application.book.ListBooksUseCase;
 import io.github.gabrielmsouza.library.infrastructure.book.models.BookResponse;
 import io.github.gabrielmsouza.library.infrastructure.book.models.ListBooksResponse;
+import io.github.gabrielmsouza.library.infrastructure.book.models.LoansByBookResponse;
 
 public final class BookPresenter {
     private BookPresenter() {
@@ -26,4 +28,13 @@ public final class BookPresenter {
                 output.isbn()
         );
     }
+
+    public static LoansByBookResponse present(final GetLoansByBookUseCase.Output output) {
+        return new LoansByBookResponse(
+                output.id(),
+                output.title(),
+                output.author(),
+                output.loans()
+        );
+    }
 }
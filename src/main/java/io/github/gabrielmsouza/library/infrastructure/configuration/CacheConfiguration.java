@@ -0,0 +1,42 @@
+package io.github.gabrielmsouza.library.infrastructure.configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.github.gabrielmsouza.library.infrastructure.configuration.properties.CacheProperties;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.Objects;
+import java.util.OptionalLong;
+
+@Configuration(proxyBeanMethods = false)
+public class CacheConfiguration {
+
+    @Bean
+    CacheManager hibernateCacheManager(final CacheProperties properties) {
+        final var cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        properties.getRegions().forEach((name, region) -> {
+            if (Objects.isNull(cacheManager.getCache(name))) {
+                cacheManager.createCache(name, configurationOf(region));
+            }
+        });
+        return cacheManager;
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(final CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> configurationOf(final CacheProperties.Region region) {
+        final var configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(region.getMaxSize()));
+        configuration.setExpireAfterWrite(OptionalLong.of(region.getTtl().toNanos()));
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
@@ -0,0 +1,46 @@
+package io.github.gabrielmsouza.library.infrastructure.configuration.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration(proxyBeanMethods = false)
+@ConfigurationProperties(prefix = "cache")
+public class CacheProperties {
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    public CacheProperties() {
+    }
+
+    public Map<String, Region> getRegions() {
+        return regions;
+    }
+
+    public void setRegions(Map<String, Region> regions) {
+        this.regions = regions;
+    }
+
+    public static class Region {
+        private Duration ttl = Duration.ofMinutes(10);
+        private long maxSize = 1_000;
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public long getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(long maxSize) {
+            this.maxSize = maxSize;
+        }
+    }
+}
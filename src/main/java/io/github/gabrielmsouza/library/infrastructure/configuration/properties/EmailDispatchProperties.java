@@ -0,0 +1,39 @@
+package io.github.gabrielmsouza.library.infrastructure.configuration.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+@ConfigurationProperties(prefix = "mail.dispatch")
+public class EmailDispatchProperties {
+    private int maxConcurrency = 16;
+    private double permitsPerSecond = 10;
+    private int burst = 10;
+
+    public EmailDispatchProperties() {
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public void setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public void setPermitsPerSecond(double permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    public void setBurst(int burst) {
+        this.burst = burst;
+    }
+}
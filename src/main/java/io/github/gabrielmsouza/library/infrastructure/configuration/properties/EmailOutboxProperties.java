@@ -0,0 +1,68 @@
+package io.github.gabrielmsouza.library.infrastructure.configuration.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration(proxyBeanMethods = false)
+@ConfigurationProperties(prefix = "mail.outbox")
+public class EmailOutboxProperties {
+    private int batchSize = 100;
+    private int maxAttempts = 6;
+    private Duration initialBackoff = Duration.ofMinutes(1);
+    private Duration maxBackoff = Duration.ofHours(6);
+    private Duration claimTimeout = Duration.ofMinutes(5);
+    private Duration lockAtMostFor = Duration.ofMinutes(10);
+
+    public EmailOutboxProperties() {
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    public void setInitialBackoff(Duration initialBackoff) {
+        this.initialBackoff = initialBackoff;
+    }
+
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    public void setMaxBackoff(Duration maxBackoff) {
+        this.maxBackoff = maxBackoff;
+    }
+
+    public Duration getClaimTimeout() {
+        return claimTimeout;
+    }
+
+    public void setClaimTimeout(Duration claimTimeout) {
+        this.claimTimeout = claimTimeout;
+    }
+
+    public Duration getLockAtMostFor() {
+        return lockAtMostFor;
+    }
+
+    public void setLockAtMostFor(Duration lockAtMostFor) {
+        this.lockAtMostFor = lockAtMostFor;
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.gabrielmsouza.library.infrastructure.configuration.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration(proxyBeanMethods = false)
+@ConfigurationProperties(prefix = "loans.policy")
+public class LoanPolicyProperties {
+    private Duration defaultPeriod = Duration.ofDays(4);
+    private Map<String, Duration> periodsByIsbn = new LinkedHashMap<>();
+
+    public LoanPolicyProperties() {
+    }
+
+    public Duration getDefaultPeriod() {
+        return defaultPeriod;
+    }
+
+    public void setDefaultPeriod(Duration defaultPeriod) {
+        this.defaultPeriod = defaultPeriod;
+    }
+
+    public Map<String, Duration> getPeriodsByIsbn() {
+        return periodsByIsbn;
+    }
+
+    public void setPeriodsByIsbn(Map<String, Duration> periodsByIsbn) {
+        this.periodsByIsbn = periodsByIsbn;
+    }
+}
@@ -2,6 +2,7 @@ package io.github.gabrielmsouza.library.infrastructure.configuration.usecases;
 
 import io.github.gabrielmsouza.library.application.book.*;
 import io.github.gabrielmsouza.library.domain.book.BookGateway;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -10,9 +11,14 @@ import java.util.Objects;
 @Configuration(proxyBeanMethods = false)
 public class BookUseCaseConfiguration {
     private final BookGateway bookGateway;
+    private final int importChunkSize;
 
-    public BookUseCaseConfiguration(final BookGateway bookGateway) {
+    public BookUseCaseConfiguration(
+            final BookGateway bookGateway,
+            @Value("${books.import.chunk-size:1000}") final int importChunkSize
+    ) {
         this.bookGateway = Objects.requireNonNull(bookGateway);
+        this.importChunkSize = importChunkSize;
     }
 
     @Bean
@@ -20,6 +26,11 @@ public class BookUseCaseConfiguration {
         return new CreateBookUseCase(bookGateway);
     }
 
+    @Bean
+    ImportBooksUseCase importBooksUseCase() {
+        return new ImportBooksUseCase(bookGateway, importChunkSize);
+    }
+
     @Bean
     UpdateBookUseCase updateBookUseCase() {
         return new UpdateBookUseCase(bookGateway);
@@ -39,4 +50,9 @@ public class BookUseCaseConfiguration {
     ListBooksUseCase listBooksUseCase() {
         return new ListBooksUseCase(bookGateway);
     }
+
+    @Bean
+    GetLoansByBookUseCase getLoansByBookUseCase() {
+        return new GetLoansByBookUseCase(bookGateway);
+    }
 }
@@ -1,40 +1,65 @@
 package io.github.gabrielmsouza.library.infrastructure.configuration.usecases;
 
 import io.github.gabrielmsouza.library.application.loan.CreateLoanUseCase;
+import io.github.gabrielmsouza.library.application.loan.CreateLoansUseCase;
 import io.github.gabrielmsouza.library.application.loan.ListLoansUseCase;
 import io.github.gabrielmsouza.library.application.loan.NotifyLateLoansUseCase;
 import io.github.gabrielmsouza.library.application.loan.ReturnLoanUseCase;
+import io.github.gabrielmsouza.library.application.loan.ReturnLoansUseCase;
 import io.github.gabrielmsouza.library.domain.book.BookGateway;
 import io.github.gabrielmsouza.library.domain.customer.CustomerGateway;
+import io.github.gabrielmsouza.library.domain.job.JobRunGateway;
 import io.github.gabrielmsouza.library.domain.loan.LoanGateway;
-import io.github.gabrielmsouza.library.domain.mail.EmailGateway;
+import io.github.gabrielmsouza.library.domain.loan.LoanPolicy;
+import io.github.gabrielmsouza.library.domain.loan.ReminderSchedule;
+import io.github.gabrielmsouza.library.domain.mail.EmailOutboxGateway;
+import io.github.gabrielmsouza.library.infrastructure.configuration.properties.LoanPolicyProperties;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
 import java.util.Objects;
 
 @Configuration(proxyBeanMethods = false)
 public class LoanUseCaseConfiguration {
+    private final JobRunGateway jobRunGateway;
     private final LoanGateway loanGateway;
     private final BookGateway bookGateway;
     private final CustomerGateway customerGateway;
-    private final EmailGateway mailGateway;
+    private final EmailOutboxGateway outboxGateway;
+    private final LoanPolicyProperties loanPolicyProperties;
+    private final int lateLoansChunkSize;
+    private final List<Integer> reminderDays;
 
     public LoanUseCaseConfiguration(
+            final JobRunGateway jobRunGateway,
             final LoanGateway loanGateway,
             final BookGateway bookGateway,
             final CustomerGateway customerGateway,
-            final EmailGateway mailGateway
+            final EmailOutboxGateway outboxGateway,
+            final LoanPolicyProperties loanPolicyProperties,
+            @Value("${notifications.late-loans.chunk-size:500}") final int lateLoansChunkSize,
+            @Value("${notifications.late-loans.reminder-days:0,3,10}") final List<Integer> reminderDays
     ) {
+        this.jobRunGateway = Objects.requireNonNull(jobRunGateway);
         this.loanGateway = Objects.requireNonNull(loanGateway);
         this.bookGateway = Objects.requireNonNull(bookGateway);
         this.customerGateway = Objects.requireNonNull(customerGateway);
-        this.mailGateway = Objects.requireNonNull(mailGateway);
+        this.outboxGateway = Objects.requireNonNull(outboxGateway);
+        this.loanPolicyProperties = Objects.requireNonNull(loanPolicyProperties);
+        this.lateLoansChunkSize = lateLoansChunkSize;
+        this.reminderDays = Objects.requireNonNull(reminderDays);
     }
 
     @Bean
     CreateLoanUseCase createLoanUseCase() {
-        return new CreateLoanUseCase(this.loanGateway, this.bookGateway, this.customerGateway);
+        return new CreateLoanUseCase(this.loanGateway, this.bookGateway, this.customerGateway, loanPolicy());
+    }
+
+    @Bean
+    CreateLoansUseCase createLoansUseCase() {
+        return new CreateLoansUseCase(this.loanGateway, this.bookGateway, this.customerGateway, loanPolicy());
     }
 
     @Bean
@@ -42,6 +67,11 @@ public class LoanUseCaseConfiguration {
         return new ReturnLoanUseCase(this.loanGateway);
     }
 
+    @Bean
+    ReturnLoansUseCase returnLoansUseCase() {
+        return new ReturnLoansUseCase(this.loanGateway);
+    }
+
     @Bean
     ListLoansUseCase listLoansUseCase() {
         return new ListLoansUseCase(this.loanGateway);
@@ -49,6 +79,18 @@ public class LoanUseCaseConfiguration {
 
     @Bean
     NotifyLateLoansUseCase notifyLateLoansUseCase() {
-        return new NotifyLateLoansUseCase(this.loanGateway, this.customerGateway, this.mailGateway);
+        return new NotifyLateLoansUseCase(
+                this.jobRunGateway,
+                this.loanGateway,
+                this.customerGateway,
+                this.bookGateway,
+                this.outboxGateway,
+                ReminderSchedule.with(this.reminderDays),
+                this.lateLoansChunkSize
+        );
+    }
+
+    private LoanPolicy loanPolicy() {
+        return LoanPolicy.with(this.loanPolicyProperties.getDefaultPeriod(), this.loanPolicyProperties.getPeriodsByIsbn());
     }
 }
@@ -0,0 +1,84 @@
+package io.github.gabrielmsouza.library.infrastructure.customer;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.gabrielmsouza.library.domain.customer.Customer;
+import io.github.gabrielmsouza.library.domain.customer.CustomerGateway;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+@Primary
+@Component
+public class CachedCustomerGateway implements CustomerGateway {
+    private static final int ENTRY_OVERHEAD = 64;
+
+    private final CustomerGateway delegate;
+    private final Cache<String, Customer> customersById;
+
+    public CachedCustomerGateway(
+            final CustomerH2Gateway delegate,
+            final MeterRegistry meterRegistry,
+            @Value("${cache.gateway.customers.ttl:5m}") final Duration ttl,
+            @Value("${cache.gateway.customers.max-size:8MB}") final DataSize maxSize
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.customersById = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((String id, Customer customer) -> weigh(customer))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, this.customersById, "gateway.customers");
+    }
+
+    @Override
+    public Customer create(final Customer customer) {
+        final var created = this.delegate.create(customer);
+        this.customersById.put(created.getId(), Customer.from(created));
+        return created;
+    }
+
+    @Override
+    public Optional<Customer> findById(final String id) {
+        final var cached = this.customersById.getIfPresent(id);
+        if (Objects.nonNull(cached)) {
+            return Optional.of(Customer.from(cached));
+        }
+        return this.delegate.findById(id).map(customer -> {
+            this.customersById.put(id, Customer.from(customer));
+            return customer;
+        });
+    }
+
+    @Override
+    public List<Customer> findAllByIds(final Collection<String> ids) {
+        final var cached = this.customersById.getAllPresent(ids);
+        final var missing = ids.stream().filter(id -> !cached.containsKey(id)).distinct().toList();
+
+        final var customers = new ArrayList<Customer>(cached.size() + missing.size());
+        cached.values().forEach(customer -> customers.add(Customer.from(customer)));
+        if (missing.isEmpty()) {
+            return customers;
+        }
+        this.delegate.findAllByIds(missing).forEach(customer -> {
+            this.customersById.put(customer.getId(), Customer.from(customer));
+            customers.add(customer);
+        });
+        return customers;
+    }
+
+    private static int weigh(final Customer customer) {
+        return ENTRY_OVERHEAD + 2 * (customer.getId().length() + customer.getName().length() + customer.getEmail().length());
+    }
+}
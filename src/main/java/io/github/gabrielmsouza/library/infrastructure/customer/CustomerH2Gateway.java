@@ -5,12 +5,18 @@ import io.github.gabrielmsouza.library.domain.customer.CustomerGateway;
 import io.github.gabrielmsouza.library.infrastructure.customer.persistence.CustomerJpaEntity;
 import io.github.gabrielmsouza.library.infrastructure.customer.persistence.CustomerRepository;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
 @Component
 public class CustomerH2Gateway implements CustomerGateway {
+    private static final int IN_CLAUSE_CHUNK_SIZE = 500;
+
     private final CustomerRepository repository;
 
     public CustomerH2Gateway(final CustomerRepository repository) {
@@ -26,4 +32,16 @@ public class CustomerH2Gateway implements CustomerGateway {
     public Optional<Customer> findById(final String id) {
         return this.repository.findById(id).map(CustomerJpaEntity::toCustomer);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Customer> findAllByIds(final Collection<String> ids) {
+        final var distinct = ids.stream().filter(Objects::nonNull).distinct().toList();
+        final var customers = new ArrayList<Customer>(distinct.size());
+        for (int from = 0; from < distinct.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            final var chunk = distinct.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, distinct.size()));
+            this.repository.findAllById(chunk).forEach(entity -> customers.add(entity.toCustomer()));
+        }
+        return customers;
+    }
 }
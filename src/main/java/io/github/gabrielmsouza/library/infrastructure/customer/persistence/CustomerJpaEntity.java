@@ -1,14 +1,23 @@
 package io.github.gabrielmsouza.library.infrastructure.customer.persistence;
 
 import io.github.gabrielmsouza.library.domain.customer.Customer;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.springframework.data.domain.Persistable;
 
 @Entity(name = "Customers")
 @Table(name = "customers")
-public class CustomerJpaEntity {
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "customers")
+public class CustomerJpaEntity implements Persistable<String> {
     @Id
     @Column(name = "id", nullable = false)
     private String id;
@@ -19,6 +28,9 @@ public class CustomerJpaEntity {
     @Column(name = "email", nullable = false)
     private String email;
 
+    @Transient
+    private boolean isNew = true;
+
     @Deprecated
     CustomerJpaEntity() {}
 
@@ -44,6 +56,18 @@ public class CustomerJpaEntity {
         return Customer.with(this.id, this.name, this.email);
     }
 
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
     public String getId() {
         return id;
     }
@@ -0,0 +1,76 @@
+package io.github.gabrielmsouza.library.infrastructure.email;
+
+import io.github.gabrielmsouza.library.domain.mail.DispatchSummary;
+import io.github.gabrielmsouza.library.domain.mail.EmailDispatcher;
+import io.github.gabrielmsouza.library.domain.mail.EmailGateway;
+import io.github.gabrielmsouza.library.domain.mail.LateLoansDigest;
+import io.github.gabrielmsouza.library.infrastructure.configuration.properties.EmailDispatchProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class ConcurrentEmailDispatcher implements EmailDispatcher {
+    private static final Logger LOG = LoggerFactory.getLogger(ConcurrentEmailDispatcher.class);
+
+    private final EmailGateway mailGateway;
+    private final TokenBucket rateLimit;
+    private final int maxConcurrency;
+
+    public ConcurrentEmailDispatcher(final EmailGateway mailGateway, final EmailDispatchProperties props) {
+        this(mailGateway, props, Clock.systemUTC());
+    }
+
+    ConcurrentEmailDispatcher(final EmailGateway mailGateway, final EmailDispatchProperties props, final Clock clock) {
+        this.mailGateway = Objects.requireNonNull(mailGateway);
+        this.rateLimit = new TokenBucket(props.getPermitsPerSecond(), props.getBurst(), clock);
+        this.maxConcurrency = props.getMaxConcurrency();
+    }
+
+    @Override
+    public DispatchSummary dispatch(final List<LateLoansDigest> digests, final Listener listener) {
+        final var inFlight = new Semaphore(this.maxConcurrency);
+        final var sent = new LongAdder();
+        final var failed = new LongAdder();
+        var submitted = 0L;
+
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (final var digest : digests) {
+                try {
+                    inFlight.acquire();
+                    this.rateLimit.acquire();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                submitted++;
+                executor.execute(() -> {
+                    Exception error = null;
+                    try {
+                        // a stuck send is bounded by the smtp connect/read/write timeouts, so the permit
+                        // is only released once the connection is really done with
+                        this.mailGateway.send(digest);
+                        sent.increment();
+                    } catch (final Exception e) {
+                        LOG.warn("Failed to send late loans digest to {}", digest.email(), e);
+                        failed.increment();
+                        error = e;
+                    }
+                    try {
+                        listener.onComplete(digest, error);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        return DispatchSummary.with(sent.sum(), failed.sum(), digests.size() - submitted);
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.gabrielmsouza.library.infrastructure.email;
+
+import io.github.gabrielmsouza.library.domain.mail.EmailOutboxGateway;
+import io.github.gabrielmsouza.library.domain.mail.LateLoansDigest;
+import io.github.gabrielmsouza.library.infrastructure.email.persistence.EmailOutboxJpaEntity;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+@Component
+public class EmailOutboxH2Gateway implements EmailOutboxGateway {
+    private final EntityManager entityManager;
+
+    public EmailOutboxH2Gateway(final EntityManager entityManager) {
+        this.entityManager = Objects.requireNonNull(entityManager);
+    }
+
+    @Override
+    @Transactional
+    public void enqueue(final List<LateLoansDigest> digests) {
+        if (digests.isEmpty()) {
+            return;
+        }
+        final var now = Instant.now();
+        digests.forEach(digest -> this.entityManager.persist(EmailOutboxJpaEntity.from(digest, now)));
+        this.entityManager.flush();
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.gabrielmsouza.library.infrastructure.email;
+
+import io.github.gabrielmsouza.library.domain.identity.Identifiers;
+import io.github.gabrielmsouza.library.domain.mail.DispatchSummary;
+import io.github.gabrielmsouza.library.domain.mail.EmailDispatcher;
+import io.github.gabrielmsouza.library.domain.mail.LateLoansDigest;
+import io.github.gabrielmsouza.library.infrastructure.configuration.properties.EmailOutboxProperties;
+import io.github.gabrielmsouza.library.infrastructure.email.persistence.EmailOutboxJpaEntity;
+import io.github.gabrielmsouza.library.infrastructure.email.persistence.EmailOutboxRepository;
+import io.github.gabrielmsouza.library.infrastructure.email.persistence.OutboxStatus;
+import io.github.gabrielmsouza.library.infrastructure.job.SchedulerLock;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+
+@Component
+public class EmailOutboxRelay {
+    private static final Logger LOG = LoggerFactory.getLogger(EmailOutboxRelay.class);
+    private static final String LOCK_NAME = "email-outbox-relay";
+
+    private final EmailOutboxRepository repository;
+    private final EmailDispatcher dispatcher;
+    private final EmailOutboxProperties props;
+    private final SchedulerLock schedulerLock;
+
+    public EmailOutboxRelay(
+            final EmailOutboxRepository repository,
+            final EmailDispatcher dispatcher,
+            final EmailOutboxProperties props,
+            final SchedulerLock schedulerLock,
+            final MeterRegistry meterRegistry
+    ) {
+        this.repository = Objects.requireNonNull(repository);
+        this.dispatcher = Objects.requireNonNull(dispatcher);
+        this.props = Objects.requireNonNull(props);
+        this.schedulerLock = Objects.requireNonNull(schedulerLock);
+        if (props.getClaimTimeout().compareTo(props.getLockAtMostFor()) >= 0) {
+            throw new IllegalArgumentException("'mail.outbox.claim-timeout' must be shorter than 'mail.outbox.lock-at-most-for'");
+        }
+
+        Gauge.builder("mail.outbox.dead", repository, it -> it.countByStatus(OutboxStatus.DEAD))
+                .description("Outbox messages that exhausted their delivery attempts")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval:PT10S}")
+    public void relay() {
+        this.schedulerLock.runExclusively(LOCK_NAME, this.props.getLockAtMostFor(), Duration.ZERO, this::drain);
+    }
+
+    void drain() {
+        // a claimed batch may take up to claimTimeout, so only claim while it can still finish inside the lock
+        final var deadline = Instant.now().plus(this.props.getLockAtMostFor()).minus(this.props.getClaimTimeout());
+        var summary = DispatchSummary.empty();
+        List<String> due;
+        do {
+            final var now = Instant.now();
+            due = this.repository.findDueIds(now, PageRequest.of(0, this.props.getBatchSize()));
+            summary = summary.plus(deliver(claim(due, now)));
+        } while (due.size() == this.props.getBatchSize()
+                && Instant.now().isBefore(deadline)
+                && !Thread.currentThread().isInterrupted());
+
+        if (summary.sent() + summary.failed() > 0) {
+            LOG.info("Outbox relayed: sent={}, failed={}, skipped={}", summary.sent(), summary.failed(), summary.skipped());
+        }
+    }
+
+    // rows are handed out by a conditional update, so two relays polling at the same time never send the same row;
+    // a claim that outlives claimTimeout is taken over on the next poll
+    private List<EmailOutboxJpaEntity> claim(final List<String> ids, final Instant now) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        final var token = Identifiers.next();
+        if (this.repository.claim(ids, token, now, now.plus(this.props.getClaimTimeout())) == 0) {
+            return List.of();
+        }
+        return this.repository.findByClaimToken(token);
+    }
+
+    DispatchSummary deliver(final List<EmailOutboxJpaEntity> rows) {
+        if (rows.isEmpty()) {
+            return DispatchSummary.empty();
+        }
+        final var byDigest = new IdentityHashMap<LateLoansDigest, EmailOutboxJpaEntity>(rows.size());
+        rows.forEach(row -> byDigest.put(row.toDigest(), row));
+
+        final var summary = this.dispatcher.dispatch(new ArrayList<>(byDigest.keySet()), (digest, error) -> {
+            final var row = byDigest.get(digest);
+            if (Objects.isNull(error)) {
+                row.markSent(Instant.now());
+            } else {
+                row.markFailed(
+                        error,
+                        Instant.now(),
+                        this.props.getMaxAttempts(),
+                        this.props.getInitialBackoff(),
+                        this.props.getMaxBackoff()
+                );
+            }
+            record(row);
+        });
+        return summary;
+    }
+
+    private void record(final EmailOutboxJpaEntity row) {
+        try {
+            this.repository.save(row);
+        } catch (final OptimisticLockingFailureException e) {
+            LOG.warn("Outbox message {} was claimed by another relay before its outcome was recorded", row.getId());
+            return;
+        }
+        if (row.getStatus() == OutboxStatus.DEAD) {
+            LOG.warn("Outbox message {} to {} moved to dead letter after {} attempts", row.getId(), row.getRecipient(), row.getAttempts());
+        }
+    }
+}
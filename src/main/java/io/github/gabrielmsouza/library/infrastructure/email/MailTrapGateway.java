@@ -2,6 +2,7 @@ package io.github.gabrielmsouza.library.infrastructure.email;
 
 import io.github.gabrielmsouza.library.domain.exceptions.InternalErrorException;
 import io.github.gabrielmsouza.library.domain.mail.EmailGateway;
+import io.github.gabrielmsouza.library.domain.mail.LateLoansDigest;
 import io.github.gabrielmsouza.library.infrastructure.configuration.properties.MailProperties;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
@@ -12,6 +13,7 @@ import java.util.Objects;
 @Component
 public class MailTrapGateway implements EmailGateway {
     private static final String SUBJECT = "Book with overdue loan";
+    private static final String DIGEST_SUBJECT = "Books with overdue loans";
     private final JavaMailSender mailSender;
     private final String from;
 
@@ -24,11 +26,24 @@ public class MailTrapGateway implements EmailGateway {
     }
 
     public void send(final String email) {
+        send(email, SUBJECT, "You have a book with overdue loan.");
+    }
+
+    @Override
+    public void send(final LateLoansDigest digest) {
+        final var text = new StringBuilder()
+                .append("Hello ").append(digest.customerName()).append(",\n\n")
+                .append("The following books have overdue loans:\n");
+        digest.titles().forEach(title -> text.append(" - ").append(title).append('\n'));
+        send(digest.email(), DIGEST_SUBJECT, text.toString());
+    }
+
+    private void send(final String email, final String subject, final String text) {
         try {
             final var message = new SimpleMailMessage();
             message.setFrom(from);
-            message.setSubject(SUBJECT);
-            message.setText("You have a book with overdue loan.");
+            message.setSubject(subject);
+            message.setText(text);
             message.setTo(email);
             this.mailSender.send(message);
         } catch (Throwable e) {
@@ -0,0 +1,55 @@
+package io.github.gabrielmsouza.library.infrastructure.email;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+public final class TokenBucket {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Clock clock;
+    private final double capacity;
+    private final double tokensPerNano;
+
+    private double tokens;
+    private long refilledAt;
+
+    public TokenBucket(final double permitsPerSecond, final int burst, final Clock clock) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("'permitsPerSecond' and 'burst' must be greater than 0");
+        }
+        this.clock = clock;
+        this.capacity = burst;
+        this.tokensPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.tokens = burst;
+        this.refilledAt = nanos();
+    }
+
+    public void acquire() throws InterruptedException {
+        while (true) {
+            final long waitNanos;
+            this.lock.lock();
+            try {
+                refill();
+                if (this.tokens >= 1) {
+                    this.tokens -= 1;
+                    return;
+                }
+                waitNanos = (long) Math.ceil((1 - this.tokens) / this.tokensPerNano);
+            } finally {
+                this.lock.unlock();
+            }
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    private void refill() {
+        final var now = nanos();
+        this.tokens = Math.min(this.capacity, this.tokens + (now - this.refilledAt) * this.tokensPerNano);
+        this.refilledAt = now;
+    }
+
+    private long nanos() {
+        final var instant = this.clock.instant();
+        return TimeUnit.SECONDS.toNanos(instant.getEpochSecond()) + instant.getNano();
+    }
+}
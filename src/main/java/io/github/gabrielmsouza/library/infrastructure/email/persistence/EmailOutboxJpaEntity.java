@@ -0,0 +1,175 @@
+package io.github.gabrielmsouza.library.infrastructure.email.persistence;
+
+import io.github.gabrielmsouza.library.domain.identity.Identifiers;
+import io.github.gabrielmsouza.library.domain.mail.LateLoansDigest;
+import jakarta.persistence.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Objects;
+
+@Entity(name = "EmailOutbox")
+@Table(
+    name = "email_outbox",
+    indexes = {
+        @Index(name = "idx_email_outbox_status_next_attempt_at", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_email_outbox_claim_token", columnList = "claim_token")
+    }
+)
+public class EmailOutboxJpaEntity {
+    private static final String TITLE_SEPARATOR = "\n";
+    private static final int MAX_ERROR_LENGTH = 1024;
+
+    @Id
+    @Column
+    private String id;
+
+    @Column(name = "recipient", nullable = false)
+    private String recipient;
+
+    @Column(name = "customer_name")
+    private String customerName;
+
+    @Column(name = "titles", nullable = false, columnDefinition = "TEXT")
+    private String titles;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private OutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant nextAttemptAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    @Column(name = "sent_at", columnDefinition = "DATETIME(6)")
+    private Instant sentAt;
+
+    @Column(name = "claim_token", length = 32)
+    private String claimToken;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Deprecated
+    EmailOutboxJpaEntity() {}
+
+    private EmailOutboxJpaEntity(
+        final String id,
+        final String recipient,
+        final String customerName,
+        final String titles,
+        final Instant createdAt
+    ) {
+        this.id = id;
+        this.recipient = recipient;
+        this.customerName = customerName;
+        this.titles = titles;
+        this.status = OutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = createdAt;
+        this.createdAt = createdAt;
+    }
+
+    public static EmailOutboxJpaEntity from(final LateLoansDigest digest, final Instant now) {
+        return new EmailOutboxJpaEntity(
+            Identifiers.next(),
+            digest.email(),
+            digest.customerName(),
+            String.join(TITLE_SEPARATOR, digest.titles()),
+            now
+        );
+    }
+
+    public LateLoansDigest toDigest() {
+        return LateLoansDigest.with(recipient, customerName, Arrays.asList(titles.split(TITLE_SEPARATOR)));
+    }
+
+    public void markSent(final Instant now) {
+        this.attempts++;
+        this.status = OutboxStatus.SENT;
+        this.sentAt = now;
+        this.lastError = null;
+        this.claimToken = null;
+    }
+
+    public void markFailed(
+        final Throwable error,
+        final Instant now,
+        final int maxAttempts,
+        final Duration initialBackoff,
+        final Duration maxBackoff
+    ) {
+        this.attempts++;
+        this.lastError = truncate(Objects.toString(error.getMessage(), error.getClass().getName()));
+        this.claimToken = null;
+        if (this.attempts >= maxAttempts) {
+            this.status = OutboxStatus.DEAD;
+            return;
+        }
+        this.status = OutboxStatus.PENDING;
+        final var backoff = initialBackoff.multipliedBy(1L << Math.min(this.attempts - 1, 30));
+        this.nextAttemptAt = now.plus(backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff);
+    }
+
+    private static String truncate(final String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getRecipient() {
+        return recipient;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public String getTitles() {
+        return titles;
+    }
+
+    public OutboxStatus getStatus() {
+        return status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getSentAt() {
+        return sentAt;
+    }
+
+    public String getClaimToken() {
+        return claimToken;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+}
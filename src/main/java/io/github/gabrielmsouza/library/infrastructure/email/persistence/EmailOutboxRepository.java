@@ -0,0 +1,59 @@
+package io.github.gabrielmsouza.library.infrastructure.email.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxJpaEntity, String> {
+    @Query("""
+        SELECT
+            o.id
+        FROM
+            EmailOutbox o
+        WHERE
+            o.status IN (
+                io.github.gabrielmsouza.library.infrastructure.email.persistence.OutboxStatus.PENDING,
+                io.github.gabrielmsouza.library.infrastructure.email.persistence.OutboxStatus.SENDING
+            )
+            AND o.nextAttemptAt <= :now
+        ORDER BY
+            o.nextAttemptAt, o.id
+    """)
+    List<String> findDueIds(@Param("now") Instant now, Pageable page);
+
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE
+            EmailOutbox o
+        SET
+            o.status = io.github.gabrielmsouza.library.infrastructure.email.persistence.OutboxStatus.SENDING,
+            o.claimToken = :token,
+            o.nextAttemptAt = :claimedUntil,
+            o.version = o.version + 1
+        WHERE
+            o.id IN :ids
+            AND o.status IN (
+                io.github.gabrielmsouza.library.infrastructure.email.persistence.OutboxStatus.PENDING,
+                io.github.gabrielmsouza.library.infrastructure.email.persistence.OutboxStatus.SENDING
+            )
+            AND o.nextAttemptAt <= :now
+    """)
+    int claim(
+        @Param("ids") Collection<String> ids,
+        @Param("token") String token,
+        @Param("now") Instant now,
+        @Param("claimedUntil") Instant claimedUntil
+    );
+
+    List<EmailOutboxJpaEntity> findByClaimToken(String claimToken);
+
+    long countByStatus(OutboxStatus status);
+}
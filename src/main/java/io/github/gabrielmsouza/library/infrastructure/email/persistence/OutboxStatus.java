@@ -0,0 +1,8 @@
+package io.github.gabrielmsouza.library.infrastructure.email.persistence;
+
+public enum OutboxStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    DEAD
+}
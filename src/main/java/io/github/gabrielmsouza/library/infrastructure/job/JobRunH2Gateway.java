@@ -0,0 +1,48 @@
+package io.github.gabrielmsouza.library.infrastructure.job;
+
+import io.github.gabrielmsouza.library.domain.job.JobRun;
+import io.github.gabrielmsouza.library.domain.job.JobRunGateway;
+import io.github.gabrielmsouza.library.domain.job.JobRunStatus;
+import io.github.gabrielmsouza.library.infrastructure.job.persistence.JobRunJpaEntity;
+import io.github.gabrielmsouza.library.infrastructure.job.persistence.JobRunRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.Optional;
+
+@Component
+public class JobRunH2Gateway implements JobRunGateway {
+    private final JobRunRepository repository;
+
+    public JobRunH2Gateway(final JobRunRepository repository) {
+        this.repository = Objects.requireNonNull(repository);
+    }
+
+    @Override
+    @Transactional
+    public JobRun create(final JobRun run) {
+        return this.repository.saveAndFlush(JobRunJpaEntity.from(run)).toJobRun();
+    }
+
+    @Override
+    @Transactional
+    public JobRun update(final JobRun run) {
+        // the version read with the run is checked on write, so a chunk processed from a stale checkpoint rolls back
+        return this.repository.saveAndFlush(JobRunJpaEntity.fromExisting(run)).toJobRun();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<JobRun> findRunning(final String jobName) {
+        return this.repository.findFirstByJobNameAndStatusOrderByStartedAtDesc(jobName, JobRunStatus.RUNNING)
+                .map(JobRunJpaEntity::toJobRun);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<JobRun> findByRunDate(final String jobName, final LocalDate runDate) {
+        return this.repository.findByJobNameAndRunDate(jobName, runDate).map(JobRunJpaEntity::toJobRun);
+    }
+}
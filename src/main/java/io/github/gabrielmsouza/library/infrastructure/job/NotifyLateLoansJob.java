@@ -1,24 +1,94 @@
 package io.github.gabrielmsouza.library.infrastructure.job;
 
 import io.github.gabrielmsouza.library.application.loan.NotifyLateLoansUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
 @Component
 public class NotifyLateLoansJob {
+    private static final Logger LOG = LoggerFactory.getLogger(NotifyLateLoansJob.class);
     private static final String CRON = "0 0 0 1/1 * ?";
+    private static final String LOCK_NAME = "notify-late-loans";
 
     private final NotifyLateLoansUseCase notifyLateLoansUseCase;
+    private final TransactionTemplate transactionTemplate;
+    private final SchedulerLock schedulerLock;
+    private final Duration lockAtMostFor;
+    private final Duration lockAtLeastFor;
+    private final Duration chunkTimeout;
 
-    public NotifyLateLoansJob(final NotifyLateLoansUseCase notifyLateLoansUseCase) {
+    public NotifyLateLoansJob(
+            final NotifyLateLoansUseCase notifyLateLoansUseCase,
+            final TransactionTemplate transactionTemplate,
+            final SchedulerLock schedulerLock,
+            @Value("${jobs.notify-late-loans.lock-at-most-for:PT2H}") final Duration lockAtMostFor,
+            @Value("${jobs.notify-late-loans.lock-at-least-for:PT5M}") final Duration lockAtLeastFor,
+            @Value("${jobs.notify-late-loans.chunk-timeout:PT5M}") final Duration chunkTimeout
+    ) {
         this.notifyLateLoansUseCase = Objects.requireNonNull(notifyLateLoansUseCase);
+        this.transactionTemplate = Objects.requireNonNull(transactionTemplate);
+        this.schedulerLock = Objects.requireNonNull(schedulerLock);
+        this.lockAtMostFor = Objects.requireNonNull(lockAtMostFor);
+        this.lockAtLeastFor = Objects.requireNonNull(lockAtLeastFor);
+        this.chunkTimeout = Objects.requireNonNull(chunkTimeout);
+        if (chunkTimeout.compareTo(lockAtMostFor) >= 0) {
+            throw new IllegalArgumentException("'jobs.notify-late-loans.chunk-timeout' must be shorter than 'jobs.notify-late-loans.lock-at-most-for'");
+        }
     }
 
     @Scheduled(cron = CRON)
     public void send() {
-        this.notifyLateLoansUseCase.execute();
+        this.schedulerLock.runExclusively(LOCK_NAME, this.lockAtMostFor, this.lockAtLeastFor, this::run);
+    }
+
+    void run() {
+        // once the lock expires another node resumes from the checkpoint, so only start a chunk that can finish inside it
+        final var deadline = Instant.now().plus(this.lockAtMostFor).minus(this.chunkTimeout);
+        NotifyLateLoansUseCase.Output output;
+        do {
+            // a leftover run from an earlier day is finished first; today's run is only started after it
+            output = runUntilCompleted(deadline);
+        } while (output.completedBefore(LocalDate.now())
+                && Instant.now().isBefore(deadline)
+                && !Thread.currentThread().isInterrupted());
+    }
+
+    private NotifyLateLoansUseCase.Output runUntilCompleted(final Instant deadline) {
+        final var startedAt = System.nanoTime();
+        var processed = 0L;
+        var queued = 0L;
+        var skipped = 0L;
+        NotifyLateLoansUseCase.Output output;
+        do {
+            output = this.transactionTemplate.execute(status -> this.notifyLateLoansUseCase.execute());
+            processed += output.processed();
+            queued += output.queued();
+            skipped += output.skipped();
+        } while (!output.completed()
+                && Instant.now().isBefore(deadline)
+                && !Thread.currentThread().isInterrupted());
+
+        final var elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        LOG.info(
+                "Late loans run {} for {} {}: processed={}, queued={}, skipped={}, elapsed={}",
+                output.runId(),
+                output.runDate(),
+                output.completed() ? "completed" : "interrupted",
+                processed,
+                queued,
+                skipped,
+                elapsed
+        );
+        return output;
     }
 }
@@ -0,0 +1,106 @@
+package io.github.gabrielmsouza.library.infrastructure.job;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+@Component
+public class SchedulerLock {
+    private static final Logger LOG = LoggerFactory.getLogger(SchedulerLock.class);
+
+    private static final String INSERT = """
+            INSERT INTO scheduler_locks (name, lock_until, locked_at, locked_by) VALUES (?, ?, ?, ?)
+            """;
+    private static final String ACQUIRE = """
+            UPDATE scheduler_locks SET lock_until = ?, locked_at = ?, locked_by = ? WHERE name = ? AND lock_until <= ?
+            """;
+    private static final String RELEASE = """
+            UPDATE scheduler_locks SET lock_until = ? WHERE name = ? AND locked_by = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final String owner;
+
+    public SchedulerLock(final JdbcTemplate jdbcTemplate, final PlatformTransactionManager transactionManager) {
+        this(jdbcTemplate, transactionManager, Clock.systemUTC(), hostname() + "-" + UUID.randomUUID());
+    }
+
+    SchedulerLock(
+            final JdbcTemplate jdbcTemplate,
+            final PlatformTransactionManager transactionManager,
+            final Clock clock,
+            final String owner
+    ) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.clock = Objects.requireNonNull(clock);
+        this.owner = Objects.requireNonNull(owner);
+    }
+
+    public boolean runExclusively(
+            final String name,
+            final Duration lockAtMostFor,
+            final Duration lockAtLeastFor,
+            final Runnable task
+    ) {
+        final var lockedAt = this.clock.instant();
+        if (!tryAcquire(name, lockAtMostFor)) {
+            LOG.debug("Skipping {}, lock is held by another node", name);
+            return false;
+        }
+        try {
+            task.run();
+            return true;
+        } finally {
+            release(name, lockedAt.plus(lockAtLeastFor));
+        }
+    }
+
+    boolean tryAcquire(final String name, final Duration lockAtMostFor) {
+        final var now = Timestamp.from(this.clock.instant());
+        final var until = Timestamp.from(this.clock.instant().plus(lockAtMostFor));
+        return Boolean.TRUE.equals(this.transactionTemplate.execute(status -> {
+            if (this.jdbcTemplate.update(ACQUIRE, until, now, this.owner, name, now) == 1) {
+                return true;
+            }
+            try {
+                return this.jdbcTemplate.update(INSERT, name, until, now, this.owner) == 1;
+            } catch (final DuplicateKeyException e) {
+                return false;
+            }
+        }));
+    }
+
+    void release(final String name, final Instant notBefore) {
+        final var now = this.clock.instant();
+        final var until = Timestamp.from(now.isAfter(notBefore) ? now : notBefore);
+        this.transactionTemplate.executeWithoutResult(status ->
+                this.jdbcTemplate.update(RELEASE, until, name, this.owner)
+        );
+    }
+
+    private static String hostname() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (final UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package io.github.gabrielmsouza.library.infrastructure.job.persistence;
+
+import io.github.gabrielmsouza.library.domain.job.JobRun;
+import io.github.gabrielmsouza.library.domain.job.JobRunStatus;
+import io.github.gabrielmsouza.library.domain.loan.LoanKey;
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Objects;
+
+@Entity(name = "JobRuns")
+@Table(
+    name = "job_runs",
+    indexes = @Index(name = "idx_job_runs_job_name_status", columnList = "job_name, status"),
+    uniqueConstraints = @UniqueConstraint(name = "uk_job_runs_job_name_run_date", columnNames = {"job_name", "run_date"})
+)
+public class JobRunJpaEntity implements Persistable<String> {
+    @Id
+    @Column
+    private String id;
+
+    @Column(name = "job_name", nullable = false, length = 64)
+    private String jobName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private JobRunStatus status;
+
+    @Column(name = "run_date", nullable = false)
+    private LocalDate runDate;
+
+    @Column(name = "last_customer_id")
+    private String lastCustomerId;
+
+    @Column(name = "last_loan_id")
+    private String lastLoanId;
+
+    @Column(name = "processed", nullable = false)
+    private long processed;
+
+    @Column(name = "queued", nullable = false)
+    private long queued;
+
+    @Column(name = "skipped", nullable = false)
+    private long skipped;
+
+    @Column(name = "started_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant startedAt;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant updatedAt;
+
+    @Column(name = "finished_at", columnDefinition = "DATETIME(6)")
+    private Instant finishedAt;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Transient
+    private boolean isNew = true;
+
+    @Deprecated
+    JobRunJpaEntity() {}
+
+    public static JobRunJpaEntity from(final JobRun run) {
+        final var entity = new JobRunJpaEntity();
+        entity.id = run.getId();
+        entity.jobName = run.getJobName();
+        entity.status = run.getStatus();
+        entity.runDate = run.getRunDate();
+        entity.lastCustomerId = Objects.isNull(run.getCheckpoint()) ? null : run.getCheckpoint().customerId();
+        entity.lastLoanId = Objects.isNull(run.getCheckpoint()) ? null : run.getCheckpoint().id();
+        entity.processed = run.getProcessed();
+        entity.queued = run.getQueued();
+        entity.skipped = run.getSkipped();
+        entity.startedAt = run.getStartedAt();
+        entity.updatedAt = run.getUpdatedAt();
+        entity.finishedAt = run.getFinishedAt();
+        entity.version = run.getVersion();
+        return entity;
+    }
+
+    public static JobRunJpaEntity fromExisting(final JobRun run) {
+        final var entity = from(run);
+        entity.isNew = false;
+        return entity;
+    }
+
+    public JobRun toJobRun() {
+        return JobRun.with(
+            this.id,
+            this.jobName,
+            this.runDate,
+            this.status,
+            Objects.isNull(this.lastLoanId) ? null : new LoanKey(this.lastCustomerId, this.lastLoanId),
+            this.processed,
+            this.queued,
+            this.skipped,
+            this.startedAt,
+            this.updatedAt,
+            this.finishedAt,
+            this.version
+        );
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    public JobRunStatus getStatus() {
+        return status;
+    }
+
+    public LocalDate getRunDate() {
+        return runDate;
+    }
+
+    public long getProcessed() {
+        return processed;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,13 @@
+package io.github.gabrielmsouza.library.infrastructure.job.persistence;
+
+import io.github.gabrielmsouza.library.domain.job.JobRunStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface JobRunRepository extends JpaRepository<JobRunJpaEntity, String> {
+    Optional<JobRunJpaEntity> findFirstByJobNameAndStatusOrderByStartedAtDesc(String jobName, JobRunStatus status);
+
+    Optional<JobRunJpaEntity> findByJobNameAndRunDate(String jobName, LocalDate runDate);
+}
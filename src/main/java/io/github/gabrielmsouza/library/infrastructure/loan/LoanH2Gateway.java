@@ -1,33 +1,109 @@
 package io.github.gabrielmsouza.library.infrastructure.loan;
 
+import io.github.gabrielmsouza.library.domain.exceptions.NotificationException;
 import io.github.gabrielmsouza.library.domain.loan.Loan;
 import io.github.gabrielmsouza.library.domain.loan.LoanGateway;
+import io.github.gabrielmsouza.library.domain.loan.LoanKey;
 import io.github.gabrielmsouza.library.domain.loan.LoanSearchQuery;
+import io.github.gabrielmsouza.library.domain.loan.ReminderSchedule;
 import io.github.gabrielmsouza.library.domain.pagination.Pagination;
+import io.github.gabrielmsouza.library.domain.validation.Error;
+import io.github.gabrielmsouza.library.domain.validation.handler.Notification;
+import io.github.gabrielmsouza.library.infrastructure.book.persistnce.BookJpaEntity;
+import io.github.gabrielmsouza.library.infrastructure.loan.persistence.LateLoanSummary;
 import io.github.gabrielmsouza.library.infrastructure.loan.persistence.LoanJpaEntity;
+import io.github.gabrielmsouza.library.infrastructure.loan.persistence.LoanNotificationJpaEntity;
+import io.github.gabrielmsouza.library.infrastructure.loan.persistence.LoanNotificationRepository;
 import io.github.gabrielmsouza.library.infrastructure.loan.persistence.LoanRepository;
+import io.github.gabrielmsouza.library.infrastructure.pagination.ApproximateCountCache;
+import io.github.gabrielmsouza.library.infrastructure.utils.CursorUtils;
+import io.github.gabrielmsouza.library.infrastructure.utils.JpaUtils;
 import io.github.gabrielmsouza.library.infrastructure.utils.SpecificationUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 public class LoanH2Gateway implements LoanGateway {
+    private static final String ACTIVE_LOAN_CONSTRAINT = "uk_loans_active_book_id";
+    private static final int IN_CLAUSE_CHUNK_SIZE = 500;
+    private static final String LATE_LOANS = """
+            SELECT new io.github.gabrielmsouza.library.infrastructure.loan.persistence.LateLoanSummary(
+                l.id, l.customerId, l.bookId, l.loanDate, l.dueDate
+            )
+            FROM Loans l
+            LEFT JOIN LoanNotifications n ON n.loanId = l.id
+            WHERE l.returned = FALSE
+              AND %s
+              AND (l.customerId > :customerId OR (l.customerId = :customerId AND l.id > :id))
+            ORDER BY l.customerId, l.id
+            """;
+
     private final LoanRepository repository;
+    private final LoanNotificationRepository notificationRepository;
+    private final EntityManager entityManager;
+    private final ApproximateCountCache countCache;
 
-    public LoanH2Gateway(final LoanRepository repository) {
+    public LoanH2Gateway(
+            final LoanRepository repository,
+            final LoanNotificationRepository notificationRepository,
+            final EntityManager entityManager,
+            final ApproximateCountCache countCache
+    ) {
         this.repository = Objects.requireNonNull(repository);
+        this.notificationRepository = Objects.requireNonNull(notificationRepository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.countCache = Objects.requireNonNull(countCache);
     }
 
     @Override
+    @Transactional
     public Loan create(final Loan loan) {
-        return save(loan);
+        try {
+            return this.repository.saveAndFlush(LoanJpaEntity.from(loan)).toLoan();
+        } catch (final DataIntegrityViolationException e) {
+            if (isActiveLoanViolation(e)) {
+                final var error = Error.with("Book with ID %s is already on loan".formatted(loan.getBookId()));
+                throw NotificationException.with("Invalid loan", Notification.create(error));
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    @Transactional
+    public List<Loan> createAll(final List<Loan> loans) {
+        try {
+            loans.forEach(loan -> this.entityManager.persist(LoanJpaEntity.from(loan)));
+            this.entityManager.flush();
+        } catch (final PersistenceException e) {
+            if (isActiveLoanViolation(e)) {
+                final var error = Error.with("One of the books was loaned by another request");
+                throw NotificationException.with("Invalid loan", Notification.create(error));
+            }
+            throw e;
+        }
+        return loans;
     }
 
     @Override
@@ -35,44 +111,205 @@ public class LoanH2Gateway implements LoanGateway {
         return save(loan);
     }
 
+    @Override
+    @Transactional
+    public boolean markReturned(final String id, final Instant returnDate) {
+        return this.repository.markReturned(id, returnDate) > 0;
+    }
+
+    @Override
+    @Transactional
+    public Set<String> markAllReturned(final Collection<String> ids, final Instant returnDate) {
+        final var distinct = ids.stream().filter(Objects::nonNull).distinct().toList();
+        final var returned = new HashSet<String>();
+        for (int from = 0; from < distinct.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            // locking the open rows first makes a concurrent return wait and then see them as returned
+            final var open = this.repository.lockOpenIds(distinct.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, distinct.size())));
+            if (!open.isEmpty()) {
+                this.repository.markAllReturned(open, returnDate);
+                returned.addAll(open);
+            }
+        }
+        return returned;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<Loan> findById(final String id) {
         return this.repository.findById(id).map(LoanJpaEntity::toLoan);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Loan> findAllByIds(final Collection<String> ids) {
+        final var distinct = ids.stream().filter(Objects::nonNull).distinct().toList();
+        final var loans = new ArrayList<Loan>(distinct.size());
+        for (int from = 0; from < distinct.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            final var chunk = distinct.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, distinct.size()));
+            this.repository.findAllById(chunk).forEach(entity -> loans.add(entity.toLoan()));
+        }
+        return loans;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public boolean existsByBookIdAndNotReturned(final String bookId) {
         return this.repository.existsByBookIdAndReturned(bookId);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Set<String> findActiveBookIds(final Collection<String> bookIds) {
+        final var distinct = bookIds.stream().filter(Objects::nonNull).distinct().toList();
+        final var active = new HashSet<String>();
+        for (int from = 0; from < distinct.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            active.addAll(this.repository.findActiveBookIds(distinct.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, distinct.size()))));
+        }
+        return active;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Pagination<Loan> findAll(final LoanSearchQuery query) {
-        final var page = PageRequest.of(
-                query.page(),
-                query.perPage(),
-                Sort.by(Sort.Direction.fromString(query.direction()), query.sort())
-        );
+        final var sort = Sort.by(Sort.Direction.fromString(query.direction()), query.sort(), "id");
+        final var where = where(query);
+
+        if (Objects.nonNull(query.cursor()) && !query.cursor().isBlank()) {
+            return seek(query, where, sort);
+        }
+        if (!query.countTotal()) {
+            return slice(query, where, sort);
+        }
 
-        final var result = this.repository.findAll(query.isbn(), query.customerId(), page);
+        final var page = PageRequest.of(query.page(), query.perPage(), sort);
+        final var result = this.repository.findAll(where, page);
+        final var content = result.getContent();
         return new Pagination<>(
                 result.getNumber(),
                 result.getSize(),
                 result.getTotalElements(),
-                result.getContent().stream().map(LoanJpaEntity::toLoan).toList()
+                content.stream().map(LoanJpaEntity::toLoan).toList(),
+                result.hasNext(),
+                result.hasNext() ? CursorUtils.next(query.sort(), content.getLast(), LoanJpaEntity::getId) : null
         );
     }
 
     @Override
-    public List<Loan> findAllLateLoans(final LocalDate date) {
-        return this.repository.findAllLateLoans(date).stream()
-                .map(LoanJpaEntity::toLoan)
+    @Transactional(readOnly = true)
+    public List<Loan> findAllLateLoans(
+            final ReminderSchedule schedule,
+            final LocalDate today,
+            final LoanKey after,
+            final int limit
+    ) {
+        final var cutoffs = schedule.cutoffs(today);
+        final var due = new StringJoiner(" OR ", "(", ")");
+        for (int step = 0; step < cutoffs.size(); step++) {
+            due.add(step == 0
+                    ? "(n.loanId IS NULL AND l.dueDate < :cutoff0)"
+                    : "(n.notifiedCount = %d AND l.dueDate < :cutoff%d)".formatted(step, step));
+        }
+
+        final var query = this.entityManager.createQuery(LATE_LOANS.formatted(due), LateLoanSummary.class)
+                .setParameter("customerId", Objects.isNull(after) ? "" : after.customerId())
+                .setParameter("id", Objects.isNull(after) ? "" : after.id())
+                .setMaxResults(limit);
+        for (int step = 0; step < cutoffs.size(); step++) {
+            query.setParameter("cutoff" + step, cutoffs.get(step));
+        }
+
+        return query.getResultList().stream()
+                .map(LateLoanSummary::toLoan)
                 .toList();
     }
 
+    @Override
+    @Transactional
+    public void markNotified(final Map<String, Integer> remindersByLoanId) {
+        if (remindersByLoanId.isEmpty()) {
+            return;
+        }
+        final var now = Instant.now();
+        final var existing = this.notificationRepository.findAllById(remindersByLoanId.keySet()).stream()
+                .collect(Collectors.toMap(LoanNotificationJpaEntity::getLoanId, Function.identity()));
+
+        remindersByLoanId.forEach((loanId, reminders) -> {
+            final var notification = existing.get(loanId);
+            if (Objects.isNull(notification)) {
+                this.entityManager.persist(LoanNotificationJpaEntity.with(loanId, reminders, now));
+            } else {
+                notification.notified(reminders, now);
+            }
+        });
+        this.entityManager.flush();
+    }
+
+    private Pagination<Loan> seek(
+            final LoanSearchQuery query,
+            final Specification<LoanJpaEntity> where,
+            final Sort sort
+    ) {
+        final var cursor = CursorUtils.decode(query.sort(), query.cursor());
+        final var seek = SpecificationUtils.<LoanJpaEntity>seek(query.sort(), query.direction(), cursor).and(where);
+
+        final var rows = JpaUtils.findAll(this.entityManager, LoanJpaEntity.class, seek, sort, query.perPage() + 1);
+        return toPagination(query, rows, approximateTotal(query, where));
+    }
+
+    private Pagination<Loan> slice(
+            final LoanSearchQuery query,
+            final Specification<LoanJpaEntity> where,
+            final Sort sort
+    ) {
+        final var offset = query.page() * query.perPage();
+        final var rows = JpaUtils.findAll(this.entityManager, LoanJpaEntity.class, where, sort, offset, query.perPage() + 1);
+        final long seen = offset + rows.size();
+        return toPagination(query, rows, Math.max(seen, approximateTotal(query, where)));
+    }
+
+    private Pagination<Loan> toPagination(final LoanSearchQuery query, final List<LoanJpaEntity> rows, final long total) {
+        final var hasNext = rows.size() > query.perPage();
+        final var content = hasNext ? rows.subList(0, query.perPage()) : rows;
+        return new Pagination<>(
+                query.page(),
+                query.perPage(),
+                total,
+                content.stream().map(LoanJpaEntity::toLoan).toList(),
+                hasNext,
+                hasNext ? CursorUtils.next(query.sort(), content.getLast(), LoanJpaEntity::getId) : null
+        );
+    }
+
+    private long approximateTotal(final LoanSearchQuery query, final Specification<LoanJpaEntity> where) {
+        final var key = "loans:%s:%s".formatted(query.isbn(), query.customerId());
+        return this.countCache.approximate(key, () -> this.repository.count(where));
+    }
+
+    private static Specification<LoanJpaEntity> where(final LoanSearchQuery query) {
+        final var isbn = Objects.requireNonNullElse(query.isbn(), "");
+        final var customerId = Objects.requireNonNullElse(query.customerId(), "");
+        return (root, criteria, cb) -> {
+            final var books = criteria.subquery(String.class);
+            final var book = books.from(BookJpaEntity.class);
+            books.select(book.get("id")).where(cb.equal(book.get("isbn"), isbn));
+            return cb.or(
+                    root.get("bookId").in(books),
+                    cb.equal(root.get("customerId"), customerId)
+            );
+        };
+    }
+
+    private static boolean isActiveLoanViolation(final Throwable e) {
+        for (var cause = e; Objects.nonNull(cause); cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return Objects.nonNull(violation.getConstraintName())
+                        && violation.getConstraintName().toLowerCase().contains(ACTIVE_LOAN_CONSTRAINT);
+            }
+        }
+        return false;
+    }
+
     private Loan save(final Loan loan) {
-        return this.repository.save(LoanJpaEntity.from(loan)).toLoan();
+        return this.repository.save(LoanJpaEntity.fromExisting(loan)).toLoan();
     }
 }
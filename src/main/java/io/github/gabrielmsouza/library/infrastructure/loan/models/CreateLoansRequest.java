@@ -0,0 +1,10 @@
+package io.github.gabrielmsouza.library.infrastructure.loan.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record CreateLoansRequest(
+    @JsonProperty("customer_id") String customerId,
+    @JsonProperty("isbns") List<String> isbns
+) {}
@@ -9,6 +9,7 @@ public record ListLoansResponse(
         @JsonProperty("book_id") String bookId,
         @JsonProperty("customer_id") String customerId,
         @JsonProperty("loan_date") Instant loanDate,
+        @JsonProperty("due_date") Instant dueDate,
         @JsonProperty("return_date") Instant returnDate,
         @JsonProperty("returned") boolean returned
 ) {
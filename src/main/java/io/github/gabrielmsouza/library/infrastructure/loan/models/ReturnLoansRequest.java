@@ -0,0 +1,9 @@
+package io.github.gabrielmsouza.library.infrastructure.loan.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record ReturnLoansRequest(
+    @JsonProperty("loan_ids") List<String> loanIds
+) {}
@@ -0,0 +1,11 @@
+package io.github.gabrielmsouza.library.infrastructure.loan.persistence;
+
+import io.github.gabrielmsouza.library.domain.loan.Loan;
+
+import java.time.Instant;
+
+public record LateLoanSummary(String id, String customerId, String bookId, Instant loanDate, Instant dueDate) {
+    public Loan toLoan() {
+        return Loan.with(this.id, this.customerId, this.bookId, this.loanDate, this.dueDate, null, false);
+    }
+}
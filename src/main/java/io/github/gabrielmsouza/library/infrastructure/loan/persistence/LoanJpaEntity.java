@@ -5,82 +5,121 @@ import io.github.gabrielmsouza.library.domain.loan.Loan;
 import io.github.gabrielmsouza.library.infrastructure.book.persistnce.BookJpaEntity;
 import io.github.gabrielmsouza.library.infrastructure.customer.persistence.CustomerJpaEntity;
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
 
 import java.time.Instant;
 
 @Entity(name = "Loans")
-@Table(name = "loans")
-public class LoanJpaEntity {
+@Table(
+    name = "loans",
+    indexes = {
+        @Index(name = "idx_loans_book_id_returned", columnList = "book_id, returned"),
+        @Index(name = "idx_loans_returned_due_date", columnList = "returned, due_date"),
+        @Index(name = "idx_loans_customer_id_loan_date", columnList = "customer_id, loan_date"),
+        @Index(name = "uk_loans_active_book_id", columnList = "active_book_id", unique = true)
+    }
+)
+public class LoanJpaEntity implements Persistable<String> {
     @Id
     @Column
     private String id;
 
-    @ManyToOne
-    @JoinColumn(name = "customer_id")
+    @Column(name = "customer_id")
+    private String customerId;
+
+    @Column(name = "book_id")
+    private String bookId;
+
+    @Column(name = "active_book_id")
+    private String activeBookId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "customer_id", insertable = false, updatable = false)
     private CustomerJpaEntity customer;
 
-    @ManyToOne
-    @JoinColumn(name = "book_id")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "book_id", insertable = false, updatable = false)
     private BookJpaEntity book;
 
     @Column(name = "loan_date", nullable = false, columnDefinition = "DATETIME(6)")
     private Instant loanDate;
 
+    @Column(name = "due_date", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant dueDate;
+
     @Column(name = "return_date", columnDefinition = "DATETIME(6)")
     private Instant returnDate;
 
     @Column(name = "returned", nullable = false)
     private boolean returned;
 
+    @Transient
+    private boolean isNew = true;
+
     @Deprecated
     LoanJpaEntity() {}
 
-    private LoanJpaEntity(final String id) {
-        this.id = id;
-    }
-
     private LoanJpaEntity(
         final String id,
-        final CustomerJpaEntity customer,
-        final BookJpaEntity book,
+        final String customerId,
+        final String bookId,
         final Instant loanDate,
+        final Instant dueDate,
         final Instant returnDate,
         final boolean returned
     ) {
         this.id = id;
-        this.customer = customer;
+        this.customerId = customerId;
+        this.bookId = bookId;
         this.loanDate = loanDate;
+        this.dueDate = dueDate;
         this.returnDate = returnDate;
         this.returned = returned;
-        this.book = book;
-    }
-
-    public static LoanJpaEntity from(final String id) {
-        return new LoanJpaEntity(id);
+        this.activeBookId = returned ? null : bookId;
     }
 
     public static LoanJpaEntity from(final Loan loan) {
         return new LoanJpaEntity(
             loan.getId(),
-            CustomerJpaEntity.from(loan.getCustomerId()),
-            BookJpaEntity.from(loan.getBookId()),
+            loan.getCustomerId(),
+            loan.getBookId(),
             loan.getLoanDate(),
+            loan.getDueDate(),
             loan.getReturnDate(),
             loan.isReturned()
         );
     }
 
+    public static LoanJpaEntity fromExisting(final Loan loan) {
+        final var entity = from(loan);
+        entity.isNew = false;
+        return entity;
+    }
+
     public Loan toLoan() {
         return Loan.with(
                 this.id,
-                this.customer.getId(),
-                this.book.getId(),
+                this.customerId,
+                this.bookId,
                 this.loanDate,
+                this.dueDate,
                 this.returnDate,
                 this.returned
         );
     }
 
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
     public String getId() {
         return id;
     }
@@ -89,6 +128,27 @@ public class LoanJpaEntity {
         this.id = id;
     }
 
+    public String getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(String customerId) {
+        this.customerId = customerId;
+    }
+
+    public String getBookId() {
+        return bookId;
+    }
+
+    public void setBookId(String bookId) {
+        this.bookId = bookId;
+        this.activeBookId = returned ? null : bookId;
+    }
+
+    public String getActiveBookId() {
+        return activeBookId;
+    }
+
     public CustomerJpaEntity getCustomer() {
         return customer;
     }
@@ -113,12 +173,21 @@ public class LoanJpaEntity {
         this.loanDate = loanDate;
     }
 
+    public Instant getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(Instant dueDate) {
+        this.dueDate = dueDate;
+    }
+
     public boolean isReturned() {
         return returned;
     }
 
     public void setReturned(boolean returned) {
         this.returned = returned;
+        this.activeBookId = returned ? null : bookId;
     }
 
     public Instant getReturnDate() {
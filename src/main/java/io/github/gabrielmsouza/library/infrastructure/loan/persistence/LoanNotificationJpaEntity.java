@@ -0,0 +1,49 @@
+package io.github.gabrielmsouza.library.infrastructure.loan.persistence;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+@Entity(name = "LoanNotifications")
+@Table(name = "loan_notifications")
+public class LoanNotificationJpaEntity {
+    @Id
+    @Column(name = "loan_id")
+    private String loanId;
+
+    @Column(name = "notified_count", nullable = false)
+    private int notifiedCount;
+
+    @Column(name = "last_notified_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant lastNotifiedAt;
+
+    @Deprecated
+    LoanNotificationJpaEntity() {}
+
+    private LoanNotificationJpaEntity(final String loanId, final int notifiedCount, final Instant lastNotifiedAt) {
+        this.loanId = loanId;
+        this.notifiedCount = notifiedCount;
+        this.lastNotifiedAt = lastNotifiedAt;
+    }
+
+    public static LoanNotificationJpaEntity with(final String loanId, final int notifiedCount, final Instant notifiedAt) {
+        return new LoanNotificationJpaEntity(loanId, notifiedCount, notifiedAt);
+    }
+
+    public void notified(final int notifiedCount, final Instant notifiedAt) {
+        this.notifiedCount = Math.max(this.notifiedCount, notifiedCount);
+        this.lastNotifiedAt = notifiedAt;
+    }
+
+    public String getLoanId() {
+        return loanId;
+    }
+
+    public int getNotifiedCount() {
+        return notifiedCount;
+    }
+
+    public Instant getLastNotifiedAt() {
+        return lastNotifiedAt;
+    }
+}
@@ -0,0 +1,6 @@
+package io.github.gabrielmsouza.library.infrastructure.loan.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface LoanNotificationRepository extends JpaRepository<LoanNotificationJpaEntity, String> {
+}
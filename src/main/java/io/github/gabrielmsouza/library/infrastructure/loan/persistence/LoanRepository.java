@@ -1,14 +1,20 @@
 package io.github.gabrielmsouza.library.infrastructure.loan.persistence;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.time.LocalDate;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
+
 public interface LoanRepository extends JpaRepository<LoanJpaEntity, String> {
     @Query("""
             SELECT
@@ -16,32 +22,34 @@ public interface LoanRepository extends JpaRepository<LoanJpaEntity, String> {
             FROM
                 Loans l
             WHERE
-                l.book.id = :bookId AND ( l.returned IS NULL OR l.returned IS NOT TRUE )
+                l.activeBookId = :bookId
     """)
     boolean existsByBookIdAndReturned(@Param("bookId") String bookId);
 
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query("""
-        SELECT
-            l
-        FROM
-            Loans l
-        JOIN
-            l.book as b
-        WHERE b.isbn = :isbn or l.customer.id = :customerId
+            UPDATE Loans l
+            SET l.returned = TRUE, l.returnDate = :returnDate, l.activeBookId = NULL
+            WHERE l.id = :id AND l.returned = FALSE
     """)
-    Page<LoanJpaEntity> findAll(
-            @Param("isbn") String isbn,
-            @Param("customerId") String customerId,
-            Pageable pageable
-    );
+    int markReturned(@Param("id") String id, @Param("returnDate") Instant returnDate);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l.id FROM Loans l WHERE l.id IN :ids AND l.returned = FALSE")
+    List<String> lockOpenIds(@Param("ids") Collection<String> ids);
 
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query("""
-        SELECT
-            l
-        FROM
-            Loans l
-        WHERE
-            l.loanDate <= :days AND ( l.returned IS NULL OR l.returned IS FALSE )
+            UPDATE Loans l
+            SET l.returned = TRUE, l.returnDate = :returnDate, l.activeBookId = NULL
+            WHERE l.id IN :ids AND l.returned = FALSE
     """)
-    List<LoanJpaEntity> findAllLateLoans(@Param("days") LocalDate days);
+    int markAllReturned(@Param("ids") Collection<String> ids, @Param("returnDate") Instant returnDate);
+
+    @Query("SELECT l.activeBookId FROM Loans l WHERE l.activeBookId IN :bookIds")
+    List<String> findActiveBookIds(@Param("bookIds") Collection<String> bookIds);
+
+    Page<LoanJpaEntity> findAll(Specification<LoanJpaEntity> whereClause, Pageable page);
+
+    long count(Specification<LoanJpaEntity> whereClause);
 }
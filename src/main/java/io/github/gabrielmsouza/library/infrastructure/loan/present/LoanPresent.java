@@ -13,6 +13,7 @@ public final class LoanPresent {
                 output.bookId(),
                 output.customerId(),
                 output.loanDate(),
+                output.dueDate(),
                 output.returnDate(),
                 output.returned()
         );
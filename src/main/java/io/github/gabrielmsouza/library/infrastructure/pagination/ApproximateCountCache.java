@@ -0,0 +1,82 @@
+package io.github.gabrielmsouza.library.infrastructure.pagination;
+
+import io.github.gabrielmsouza.library.domain.pagination.Pagination;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.LongSupplier;
+
+@Component
+public class ApproximateCountCache {
+    private static final Logger LOG = LoggerFactory.getLogger(ApproximateCountCache.class);
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Duration ttl;
+    private final int maxEntries;
+
+    public ApproximateCountCache(
+            @Value("${pagination.approximate-count.ttl:60s}") final Duration ttl,
+            @Value("${pagination.approximate-count.max-entries:1024}") final int maxEntries
+    ) {
+        this.ttl = Objects.requireNonNull(ttl);
+        this.maxEntries = maxEntries;
+    }
+
+    public long approximate(final String key, final LongSupplier counter) {
+        final var entry = this.entries.get(key);
+        if (Objects.isNull(entry) || entry.isOlderThan(this.ttl)) {
+            refresh(key, counter);
+        }
+        return Objects.isNull(entry) ? Pagination.UNKNOWN_TOTAL : entry.count();
+    }
+
+    @PreDestroy
+    public void close() {
+        this.executor.shutdownNow();
+    }
+
+    private void refresh(final String key, final LongSupplier counter) {
+        if (!this.refreshing.add(key)) {
+            return;
+        }
+        this.executor.execute(() -> {
+            try {
+                final var count = counter.getAsLong();
+                if (this.entries.size() >= this.maxEntries && !this.entries.containsKey(key)) {
+                    evictOldest();
+                }
+                this.entries.put(key, new Entry(count, Instant.now()));
+            } catch (final RuntimeException e) {
+                LOG.warn("Could not refresh approximate count for {}", key, e);
+            } finally {
+                this.refreshing.remove(key);
+            }
+        });
+    }
+
+    private void evictOldest() {
+        this.entries.entrySet().stream()
+                .min(Comparator.comparing(it -> it.getValue().refreshedAt()))
+                .ifPresent(it -> this.entries.remove(it.getKey()));
+    }
+
+    private record Entry(long count, Instant refreshedAt) {
+        boolean isOlderThan(final Duration ttl) {
+            return refreshedAt.plus(ttl).isBefore(Instant.now());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.gabrielmsouza.library.infrastructure.utils;
+
+import io.github.gabrielmsouza.library.domain.exceptions.DomainException;
+import io.github.gabrielmsouza.library.domain.validation.Error;
+import org.springframework.beans.BeanWrapperImpl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.function.Function;
+
+public final class CursorUtils {
+    private static final String SEPARATOR = "|";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorUtils() {}
+
+    public static String encode(final String sort, final String id, final Object value) {
+        final var raw = Objects.isNull(value)
+                ? String.join(SEPARATOR, sort, id)
+                : String.join(SEPARATOR, sort, id, String.valueOf(value));
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static <T> String next(final String sort, final T last, final Function<T, String> idOf) {
+        final var value = new BeanWrapperImpl(last).getPropertyValue(sort);
+        return encode(sort, idOf.apply(last), value);
+    }
+
+    public static Cursor decode(final String sort, final String token) {
+        final String[] parts;
+        try {
+            parts = new String(DECODER.decode(token), StandardCharsets.UTF_8).split("\\|", 3);
+        } catch (final IllegalArgumentException e) {
+            throw invalid(sort);
+        }
+        if (parts.length < 2 || !parts[0].equals(sort) || parts[1].isBlank()) {
+            throw invalid(sort);
+        }
+        return new Cursor(parts[1], parts.length == 3 ? parts[2] : null);
+    }
+
+    private static DomainException invalid(final String sort) {
+        return DomainException.with(Error.with("'cursor' is not valid for sort '%s'".formatted(sort)));
+    }
+
+    public record Cursor(String id, String value) {
+    }
+}
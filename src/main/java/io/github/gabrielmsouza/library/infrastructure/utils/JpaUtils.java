@@ -0,0 +1,84 @@
+package io.github.gabrielmsouza.library.infrastructure.utils;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+public final class JpaUtils {
+    private JpaUtils() {}
+
+    public static <T> List<T> findAll(
+            final EntityManager entityManager,
+            final Class<T> type,
+            final Specification<T> where,
+            final Sort sort,
+            final int limit
+    ) {
+        return findAll(entityManager, type, where, sort, 0, limit);
+    }
+
+    public static <T> List<T> findAll(
+            final EntityManager entityManager,
+            final Class<T> type,
+            final Specification<T> where,
+            final Sort sort,
+            final int offset,
+            final int limit
+    ) {
+        final var query = entityManager.getCriteriaBuilder().createQuery(type);
+        final var root = query.from(type);
+        query.select(root);
+        return execute(entityManager, query, root, where, sort, offset, limit);
+    }
+
+    public static <T, R extends Record> List<R> findAll(
+            final EntityManager entityManager,
+            final Class<T> type,
+            final Class<R> projection,
+            final Specification<T> where,
+            final Sort sort,
+            final int offset,
+            final int limit
+    ) {
+        final var cb = entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(projection);
+        final var root = query.from(type);
+        final var selections = Arrays.stream(projection.getRecordComponents())
+                .map(component -> root.get(component.getName()))
+                .toArray(Selection<?>[]::new);
+        query.select(cb.construct(projection, selections));
+        return execute(entityManager, query, root, where, sort, offset, limit);
+    }
+
+    private static <T, R> List<R> execute(
+            final EntityManager entityManager,
+            final CriteriaQuery<R> query,
+            final Root<T> root,
+            final Specification<T> where,
+            final Sort sort,
+            final int offset,
+            final int limit
+    ) {
+        final var cb = entityManager.getCriteriaBuilder();
+        if (Objects.nonNull(where)) {
+            final var predicate = where.toPredicate(root, query, cb);
+            if (Objects.nonNull(predicate)) {
+                query.where(predicate);
+            }
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.gabrielmsouza.library.infrastructure.utils;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+public final class SearchUtils {
+    public static final int MIN_PREFIX_LENGTH = 2;
+    public static final int MAX_TOKEN_LENGTH = 32;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private SearchUtils() {}
+
+    public static List<String> tokens(final String text) {
+        if (Objects.isNull(text) || text.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(SEPARATORS.split(normalize(text)))
+                .filter(token -> !token.isEmpty())
+                .map(SearchUtils::truncate)
+                .distinct()
+                .toList();
+    }
+
+    public static String compact(final String text) {
+        return Objects.isNull(text) ? "" : truncate(SEPARATORS.matcher(normalize(text)).replaceAll(""));
+    }
+
+    public static List<String> prefixes(final String token) {
+        return IntStream.range(MIN_PREFIX_LENGTH, token.length())
+                .mapToObj(length -> token.substring(0, length))
+                .toList();
+    }
+
+    private static String normalize(final String text) {
+        final var decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private static String truncate(final String token) {
+        return token.length() > MAX_TOKEN_LENGTH ? token.substring(0, MAX_TOKEN_LENGTH) : token;
+    }
+}
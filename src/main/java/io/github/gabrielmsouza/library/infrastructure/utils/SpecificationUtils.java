@@ -1,7 +1,15 @@
 package io.github.gabrielmsouza.library.infrastructure.utils;
 
+import io.github.gabrielmsouza.library.domain.exceptions.DomainException;
+import io.github.gabrielmsouza.library.domain.validation.Error;
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+
 public final class SpecificationUtils {
     private SpecificationUtils() {}
 
@@ -12,4 +20,46 @@ public final class SpecificationUtils {
     public static <T> Specification<T> equal(final String prop, final String term) {
         return (root, query, cb) -> cb.equal(root.get(prop), term);
     }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Specification<T> seek(final String prop, final String direction, final CursorUtils.Cursor cursor) {
+        final var ascending = Sort.Direction.fromString(direction).isAscending();
+        return (root, query, cb) -> {
+            final Path<Comparable> path = root.get(prop);
+            final Path<String> id = root.get("id");
+            final Comparable key = toKey(prop, path.getJavaType(), cursor.value());
+
+            if (Objects.isNull(key)) {
+                return ascending
+                        ? cb.or(cb.isNotNull(path), cb.greaterThan(id, cursor.id()))
+                        : cb.and(cb.isNull(path), cb.lessThan(id, cursor.id()));
+            }
+            return ascending
+                    ? cb.or(cb.greaterThan(path, key), cb.and(cb.equal(path, key), cb.greaterThan(id, cursor.id())))
+                    : cb.or(cb.lessThan(path, key), cb.and(cb.equal(path, key), cb.lessThan(id, cursor.id())), cb.isNull(path));
+        };
+    }
+
+    private static Comparable<?> toKey(final String prop, final Class<?> type, final String value) {
+        if (Objects.isNull(value)) {
+            return null;
+        }
+        try {
+            if (Instant.class.equals(type)) {
+                return Instant.parse(value);
+            }
+            if (Boolean.class.equals(type) || boolean.class.equals(type)) {
+                return Boolean.valueOf(value);
+            }
+            if (Long.class.equals(type) || long.class.equals(type)) {
+                return Long.valueOf(value);
+            }
+            if (Integer.class.equals(type) || int.class.equals(type)) {
+                return Integer.valueOf(value);
+            }
+            return value;
+        } catch (final DateTimeParseException | NumberFormatException e) {
+            throw DomainException.with(Error.with("'cursor' is not valid for sort '%s'".formatted(prop)));
+        }
+    }
 }
@@ -0,0 +1,3 @@
+ALTER TABLE job_runs ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE job_runs ADD CONSTRAINT uk_job_runs_job_name_run_date UNIQUE (job_name, run_date);
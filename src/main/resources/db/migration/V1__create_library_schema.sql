@@ -0,0 +1,43 @@
+CREATE TABLE books (
+    id VARCHAR(32) NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    author VARCHAR(255) NOT NULL,
+    isbn VARCHAR(32) NOT NULL,
+    CONSTRAINT pk_books PRIMARY KEY (id),
+    CONSTRAINT uk_books_isbn UNIQUE (isbn)
+);
+
+CREATE TABLE customers (
+    id VARCHAR(32) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_customers PRIMARY KEY (id)
+);
+
+CREATE TABLE loans (
+    id VARCHAR(32) NOT NULL,
+    customer_id VARCHAR(32) NOT NULL,
+    book_id VARCHAR(32) NOT NULL,
+    active_book_id VARCHAR(32),
+    loan_date DATETIME(6) NOT NULL,
+    return_date DATETIME(6),
+    returned BOOLEAN NOT NULL DEFAULT FALSE,
+    CONSTRAINT pk_loans PRIMARY KEY (id),
+    CONSTRAINT fk_loans_customer_id FOREIGN KEY (customer_id) REFERENCES customers (id),
+    CONSTRAINT fk_loans_book_id FOREIGN KEY (book_id) REFERENCES books (id)
+);
+
+CREATE INDEX idx_loans_book_id_returned ON loans (book_id, returned);
+CREATE INDEX idx_loans_returned_loan_date ON loans (returned, loan_date);
+CREATE INDEX idx_loans_customer_id_loan_date ON loans (customer_id, loan_date);
+CREATE INDEX idx_loans_active_book_id ON loans (active_book_id);
+
+CREATE TABLE book_search_tokens (
+    token VARCHAR(32) NOT NULL,
+    book_id VARCHAR(32) NOT NULL,
+    weight INT NOT NULL,
+    CONSTRAINT pk_book_search_tokens PRIMARY KEY (token, book_id),
+    CONSTRAINT fk_book_search_tokens_book_id FOREIGN KEY (book_id) REFERENCES books (id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_book_search_tokens_book_id ON book_search_tokens (book_id);
@@ -0,0 +1,3 @@
+DROP INDEX idx_loans_active_book_id;
+
+CREATE UNIQUE INDEX uk_loans_active_book_id ON loans (active_book_id);
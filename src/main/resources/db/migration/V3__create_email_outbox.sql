@@ -0,0 +1,15 @@
+CREATE TABLE email_outbox (
+    id VARCHAR(32) NOT NULL,
+    recipient VARCHAR(255) NOT NULL,
+    customer_name VARCHAR(255),
+    titles TEXT NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6) NOT NULL,
+    last_error VARCHAR(1024),
+    created_at DATETIME(6) NOT NULL,
+    sent_at DATETIME(6),
+    CONSTRAINT pk_email_outbox PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_email_outbox_status_next_attempt_at ON email_outbox (status, next_attempt_at);
@@ -0,0 +1,7 @@
+CREATE TABLE loan_notifications (
+    loan_id VARCHAR(32) NOT NULL,
+    notified_count INT NOT NULL,
+    last_notified_at DATETIME(6) NOT NULL,
+    CONSTRAINT pk_loan_notifications PRIMARY KEY (loan_id),
+    CONSTRAINT fk_loan_notifications_loan_id FOREIGN KEY (loan_id) REFERENCES loans (id) ON DELETE CASCADE
+);
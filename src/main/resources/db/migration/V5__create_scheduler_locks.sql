@@ -0,0 +1,7 @@
+CREATE TABLE scheduler_locks (
+    name VARCHAR(64) NOT NULL,
+    lock_until DATETIME(6) NOT NULL,
+    locked_at DATETIME(6) NOT NULL,
+    locked_by VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_scheduler_locks PRIMARY KEY (name)
+);
@@ -0,0 +1,17 @@
+CREATE TABLE job_runs (
+    id VARCHAR(32) NOT NULL,
+    job_name VARCHAR(64) NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    run_date DATE NOT NULL,
+    last_customer_id VARCHAR(32),
+    last_loan_id VARCHAR(32),
+    processed BIGINT NOT NULL DEFAULT 0,
+    queued BIGINT NOT NULL DEFAULT 0,
+    skipped BIGINT NOT NULL DEFAULT 0,
+    started_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    finished_at DATETIME(6),
+    CONSTRAINT pk_job_runs PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_job_runs_job_name_status ON job_runs (job_name, status);
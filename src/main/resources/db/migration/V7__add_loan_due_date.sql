@@ -0,0 +1,7 @@
+ALTER TABLE loans ADD COLUMN due_date DATETIME(6);
+
+UPDATE loans SET due_date = DATEADD('DAY', 4, loan_date);
+
+DROP INDEX idx_loans_returned_loan_date;
+
+CREATE INDEX idx_loans_returned_due_date ON loans (returned, due_date);
@@ -0,0 +1,4 @@
+ALTER TABLE email_outbox ADD COLUMN claim_token VARCHAR(32);
+ALTER TABLE email_outbox ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+CREATE INDEX idx_email_outbox_claim_token ON email_outbox (claim_token);
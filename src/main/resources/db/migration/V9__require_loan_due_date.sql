@@ -0,0 +1,3 @@
+UPDATE loans SET due_date = DATEADD('DAY', 4, loan_date) WHERE due_date IS NULL;
+
+ALTER TABLE loans ALTER COLUMN due_date SET NOT NULL;
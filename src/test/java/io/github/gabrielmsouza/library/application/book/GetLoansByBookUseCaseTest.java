@@ -0,0 +1,69 @@
+package io.github.gabrielmsouza.library.application.book;
+
+import io.github.gabrielmsouza.library.Fixture;
+import io.github.gabrielmsouza.library.application.UseCaseTest;
+import io.github.gabrielmsouza.library.domain.book.Book;
+import io.github.gabrielmsouza.library.domain.book.BookGateway;
+import io.github.gabrielmsouza.library.domain.exceptions.NotFoundException;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GetLoansByBookUseCaseTest extends UseCaseTest {
+    @InjectMocks
+    private GetLoansByBookUseCase useCase;
+
+    @Mock
+    private BookGateway gateway;
+
+    @Test
+    void givenAValidId_whenCallsGetLoansByBook_thenShouldReturnBookWithLoans() {
+        // given
+        final var expectedTitle = Fixture.Book.title();
+        final var expectedAuthor = Fixture.Book.author();
+        final var expectedLoans = List.of(Fixture.randomId(), Fixture.randomId());
+
+        final var book = Book.with(Fixture.randomId(), expectedTitle, expectedAuthor, Fixture.Book.isbn(), expectedLoans);
+
+        final var expectedId = book.getId();
+
+        when(this.gateway.findByIdWithLoans(expectedId)).thenReturn(Optional.of(book));
+
+        // when
+        final var actualOutput = this.useCase.execute(expectedId);
+
+        // then
+        assertNotNull(actualOutput);
+        assertEquals(expectedId, actualOutput.id());
+        assertEquals(expectedTitle, actualOutput.title());
+        assertEquals(expectedAuthor, actualOutput.author());
+        assertEquals(expectedLoans, actualOutput.loans());
+
+        verify(this.gateway).findByIdWithLoans(expectedId);
+    }
+
+    @Test
+    void givenAnInvalidId_whenCallsGetLoansByBookAndDoesNotExists_thenShouldThrowNotFoundException() {
+        // given
+        final var expectedId = "123";
+        final var expectedErrorMessage = "Book with ID 123 was not found";
+
+        when(this.gateway.findByIdWithLoans(expectedId)).thenReturn(Optional.empty());
+
+        // when
+        final var actualException = assertThrows(NotFoundException.class, () -> this.useCase.execute(expectedId));
+
+        // then
+        assertNotNull(actualException);
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+
+        verify(this.gateway).findByIdWithLoans(expectedId);
+    }
+}
@@ -0,0 +1,234 @@
+package io.github.gabrielmsouza.library.application.book;
+
+import io.github.gabrielmsouza.library.Fixture;
+import io.github.gabrielmsouza.library.application.UseCaseTest;
+import io.github.gabrielmsouza.library.application.book.CreateBookUseCase.Input;
+import io.github.gabrielmsouza.library.domain.book.Book;
+import io.github.gabrielmsouza.library.domain.book.BookGateway;
+import io.github.gabrielmsouza.library.domain.exceptions.DomainException;
+import io.github.gabrielmsouza.library.domain.exceptions.NotificationException;
+import io.github.gabrielmsouza.library.domain.validation.Error;
+import io.github.gabrielmsouza.library.domain.validation.handler.Notification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ImportBooksUseCaseTest extends UseCaseTest {
+    private static final int CHUNK_SIZE = 2;
+
+    private ImportBooksUseCase useCase;
+
+    @Mock
+    private BookGateway bookGateway;
+
+    @Captor
+    private ArgumentCaptor<List<Book>> captor;
+
+    @BeforeEach
+    void setUp() {
+        this.useCase = new ImportBooksUseCase(this.bookGateway, CHUNK_SIZE);
+    }
+
+    @Test
+    void givenAMixOfRows_whenCallsImportBooks_thenShouldInsertValidOnesInChunksAndReportEachRow() {
+        // given
+        final var existingIsbn = Fixture.Book.isbn();
+        final var duplicatedIsbn = Fixture.Book.isbn();
+
+        final var inputs = List.of(
+                new Input(Fixture.Book.title(), Fixture.Book.author(), duplicatedIsbn),
+                new Input("", Fixture.Book.author(), Fixture.Book.isbn()),
+                new Input(Fixture.Book.title(), Fixture.Book.author(), duplicatedIsbn),
+                new Input(Fixture.Book.title(), Fixture.Book.author(), existingIsbn),
+                new Input(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn())
+        );
+
+        when(this.bookGateway.findExistingIsbns(anyCollection())).thenReturn(Set.of(existingIsbn), Set.of());
+        when(this.bookGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutput = this.useCase.execute(inputs.iterator());
+
+        // then
+        assertEquals(2, actualOutput.imported());
+        assertEquals(3, actualOutput.failed());
+        assertEquals(List.of(0, 1, 2, 3, 4), actualOutput.rows().stream().map(ImportBooksUseCase.Row::index).toList());
+
+        final var rows = actualOutput.rows();
+        assertNotNull(rows.get(0).id());
+        assertEquals("'title' should not be empty", rows.get(1).errors().getFirst().message());
+        assertEquals("Duplicated isbn %s in request".formatted(duplicatedIsbn), rows.get(2).errors().getFirst().message());
+        assertEquals("Already exists a book with isbn %s".formatted(existingIsbn), rows.get(3).errors().getFirst().message());
+        assertNotNull(rows.get(4).id());
+
+        verify(this.bookGateway, times(2)).findExistingIsbns(anyCollection());
+        verify(this.bookGateway, times(2)).createAll(this.captor.capture());
+        assertEquals(List.of(duplicatedIsbn), this.captor.getAllValues().get(0).stream().map(Book::getIsbn).toList());
+        assertEquals(List.of(inputs.get(4).isbn()), this.captor.getAllValues().get(1).stream().map(Book::getIsbn).toList());
+    }
+
+    @Test
+    void givenAnIsbnCreatedConcurrently_whenCallsImportBooks_thenShouldRetryOnlyTheRowsThatAreStillNew() {
+        // given
+        final var takenIsbn = Fixture.Book.isbn();
+        final var freeIsbn = Fixture.Book.isbn();
+        final var inputs = List.of(
+                new Input(Fixture.Book.title(), Fixture.Book.author(), takenIsbn),
+                new Input(Fixture.Book.title(), Fixture.Book.author(), freeIsbn)
+        );
+        final var race = Error.with("One of the isbns was created by another request");
+
+        when(this.bookGateway.findExistingIsbns(anyCollection())).thenReturn(Set.of(), Set.of(takenIsbn));
+        when(this.bookGateway.createAll(any()))
+                .thenThrow(NotificationException.with("Invalid book", Notification.create(race)))
+                .thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutput = this.useCase.execute(inputs.iterator());
+
+        // then
+        assertEquals(1, actualOutput.imported());
+        assertEquals(1, actualOutput.failed());
+
+        final var rows = actualOutput.rows();
+        assertEquals("Already exists a book with isbn %s".formatted(takenIsbn), rows.get(0).errors().getFirst().message());
+        assertNotNull(rows.get(1).id());
+
+        verify(this.bookGateway, times(2)).createAll(this.captor.capture());
+        assertEquals(List.of(freeIsbn), this.captor.getAllValues().get(1).stream().map(Book::getIsbn).toList());
+    }
+
+    @Test
+    void givenARaceTheRequeryCannotExplain_whenCallsImportBooks_thenShouldFallBackToOneInsertPerRow() {
+        // given
+        final var takenIsbn = Fixture.Book.isbn();
+        final var inputs = List.of(
+                new Input(Fixture.Book.title(), Fixture.Book.author(), takenIsbn),
+                new Input(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn())
+        );
+        final var race = Error.with("One of the isbns was created by another request");
+        final var expectedError = Error.with("Already exists a book with isbn %s".formatted(takenIsbn));
+
+        when(this.bookGateway.findExistingIsbns(anyCollection())).thenReturn(Set.of());
+        when(this.bookGateway.createAll(any())).thenThrow(NotificationException.with("Invalid book", Notification.create(race)));
+        when(this.bookGateway.create(any())).thenAnswer(invocation -> {
+            final Book book = invocation.getArgument(0);
+            if (book.getIsbn().equals(takenIsbn)) {
+                throw NotificationException.with("Invalid book", Notification.create(expectedError));
+            }
+            return book;
+        });
+
+        // when
+        final var actualOutput = this.useCase.execute(inputs.iterator());
+
+        // then
+        assertEquals(1, actualOutput.imported());
+        assertEquals(List.of(expectedError), actualOutput.rows().get(0).errors());
+        assertNotNull(actualOutput.rows().get(1).id());
+        verify(this.bookGateway, times(2)).create(any());
+    }
+
+    @Test
+    void givenAnUnexpectedGatewayFailure_whenCallsImportBooks_thenShouldNotExposeItsMessage() {
+        // given
+        final var inputs = List.of(
+                new Input(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn()),
+                new Input(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn())
+        );
+        final var expectedError = Error.with("Could not import the book, try again later");
+
+        when(this.bookGateway.findExistingIsbns(anyCollection())).thenReturn(Set.of());
+        when(this.bookGateway.createAll(any())).thenThrow(new IllegalStateException("could not execute statement [INSERT INTO books ...]"));
+
+        // when
+        final var actualOutput = this.useCase.execute(inputs.iterator());
+
+        // then
+        assertEquals(0, actualOutput.imported());
+        assertEquals(2, actualOutput.failed());
+        actualOutput.rows().forEach(row -> {
+            assertNull(row.id());
+            assertEquals(List.of(expectedError), row.errors());
+        });
+    }
+
+    @Test
+    void givenAnIsbnLongerThanTheColumn_whenCallsImportBooks_thenShouldFailOnlyThatRow() {
+        // given
+        final var inputs = List.of(
+                new Input(Fixture.Book.title(), Fixture.Book.author(), "9".repeat(Book.ISBN_MAX_LENGTH + 1)),
+                new Input(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn())
+        );
+
+        when(this.bookGateway.findExistingIsbns(anyCollection())).thenReturn(Set.of());
+        when(this.bookGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutput = this.useCase.execute(inputs.iterator());
+
+        // then
+        assertEquals(1, actualOutput.imported());
+        assertEquals("'isbn' must be at most 32 characters", actualOutput.rows().get(0).errors().getFirst().message());
+        assertNotNull(actualOutput.rows().get(1).id());
+    }
+
+    @Test
+    void givenAnUnreadableRowAndThenABrokenStream_whenCallsImportBooks_thenShouldReportThemAndKeepWhatWasImported() {
+        // given
+        final var expectedRowError = Error.with("Malformed book");
+        final var expectedStreamError = Error.with("Malformed books payload, the remaining rows were not read");
+
+        final var inputs = new Iterator<Input>() {
+            private int read;
+
+            @Override
+            public boolean hasNext() {
+                if (this.read == 3) {
+                    throw DomainException.with(expectedStreamError);
+                }
+                return true;
+            }
+
+            @Override
+            public Input next() {
+                if (this.read++ == 1) {
+                    throw DomainException.with(expectedRowError);
+                }
+                return new Input(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn());
+            }
+        };
+
+        when(this.bookGateway.findExistingIsbns(anyCollection())).thenReturn(Set.of());
+        when(this.bookGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutput = this.useCase.execute(inputs);
+
+        // then
+        assertEquals(2, actualOutput.imported());
+        assertEquals(2, actualOutput.failed());
+        assertEquals(List.of(0, 1, 2, 3), actualOutput.rows().stream().map(ImportBooksUseCase.Row::index).toList());
+
+        final var rows = actualOutput.rows();
+        assertNotNull(rows.get(0).id());
+        assertEquals(List.of(expectedRowError), rows.get(1).errors());
+        assertNotNull(rows.get(2).id());
+        assertEquals(List.of(expectedStreamError), rows.get(3).errors());
+        verify(this.bookGateway, times(1)).createAll(any());
+    }
+}
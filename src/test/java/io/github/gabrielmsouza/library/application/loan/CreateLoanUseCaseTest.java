@@ -11,12 +11,17 @@ import io.github.gabrielmsouza.library.domain.exceptions.NotFoundException;
 import io.github.gabrielmsouza.library.domain.exceptions.NotificationException;
 import io.github.gabrielmsouza.library.domain.loan.Loan;
 import io.github.gabrielmsouza.library.domain.loan.LoanGateway;
+import io.github.gabrielmsouza.library.domain.loan.LoanPolicy;
+import io.github.gabrielmsouza.library.domain.validation.Error;
+import io.github.gabrielmsouza.library.domain.validation.handler.Notification;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
+import java.time.Duration;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -26,7 +31,9 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class CreateLoanUseCaseTest extends UseCaseTest {
-    @InjectMocks
+    private static final Duration LONG_LOAN_PERIOD = Duration.ofDays(14);
+    private static final String LONG_LOAN_ISBN = Fixture.Book.isbn();
+
     private CreateLoanUseCase useCase;
 
     @Mock
@@ -41,6 +48,12 @@ class CreateLoanUseCaseTest extends UseCaseTest {
     @Captor
     private ArgumentCaptor<Loan> captor;
 
+    @BeforeEach
+    void setUp() {
+        final var policy = LoanPolicy.with(Loan.DEFAULT_LOAN_PERIOD, Map.of(LONG_LOAN_ISBN, LONG_LOAN_PERIOD));
+        this.useCase = new CreateLoanUseCase(this.loanGateway, this.bookGateway, this.customerGateway, policy);
+    }
+
     @Test
     void givenAValidParams_whenCallsCreateLoan_thenShouldReturnLoanId() {
         // given
@@ -50,7 +63,6 @@ class CreateLoanUseCaseTest extends UseCaseTest {
         final var book = Book.with(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn());
         final var expectedIsbn = book.getIsbn();
 
-        when(this.loanGateway.existsByBookIdAndNotReturned(book.getId())).thenReturn(false);
         when(this.bookGateway.findByIsbn(expectedIsbn)).thenReturn(Optional.of(book));
         when(this.customerGateway.findById(expectedCustomerId)).thenReturn(Optional.of(customer));
         when(this.loanGateway.create(any())).thenAnswer(returnsFirstArg());
@@ -71,9 +83,29 @@ class CreateLoanUseCaseTest extends UseCaseTest {
         assertEquals(book.getId(), actualLoan.getBookId());
         assertEquals(expectedCustomerId, actualLoan.getCustomerId());
         assertNotNull(actualLoan.getLoanDate());
+        assertEquals(actualLoan.getLoanDate().plus(Loan.DEFAULT_LOAN_PERIOD), actualLoan.getDueDate());
         assertFalse(actualLoan.isReturned());
     }
 
+    @Test
+    void givenABookWithALongerLoanPeriod_whenCallsCreateLoan_thenShouldComputeDueDateFromPolicy() {
+        // given
+        final var customer = Customer.with(Fixture.Customer.name(), Fixture.Customer.email());
+        final var book = Book.with(Fixture.Book.title(), Fixture.Book.author(), LONG_LOAN_ISBN);
+
+        when(this.bookGateway.findByIsbn(LONG_LOAN_ISBN)).thenReturn(Optional.of(book));
+        when(this.customerGateway.findById(customer.getId())).thenReturn(Optional.of(customer));
+        when(this.loanGateway.create(any())).thenAnswer(returnsFirstArg());
+
+        // when
+        this.useCase.execute(new Input(LONG_LOAN_ISBN, customer.getId()));
+
+        // then
+        verify(this.loanGateway).create(this.captor.capture());
+        final var actualLoan = this.captor.getValue();
+        assertEquals(actualLoan.getLoanDate().plus(LONG_LOAN_PERIOD), actualLoan.getDueDate());
+    }
+
     @Test
     void givenAnInvalidIsbn_whenCallsCreateLoan_thenShouldThrowsNotificationException() {
         // given
@@ -135,9 +167,10 @@ class CreateLoanUseCaseTest extends UseCaseTest {
         final var expectedErrorMessage = "Book with ID %s is already on loan".formatted(expectedBookId);
         final var expectedErrorSize = 1;
 
-        when(this.loanGateway.existsByBookIdAndNotReturned(expectedBookId)).thenReturn(true);
         when(this.bookGateway.findByIsbn(expectedIsbn)).thenReturn(Optional.of(book));
         when(this.customerGateway.findById(expectedCustomerId)).thenReturn(Optional.of(customer));
+        when(this.loanGateway.create(any()))
+                .thenThrow(NotificationException.with("Invalid loan", Notification.create(Error.with(expectedErrorMessage))));
 
         final var input = new Input(expectedIsbn, expectedCustomerId);
 
@@ -150,7 +183,7 @@ class CreateLoanUseCaseTest extends UseCaseTest {
         assertEquals(expectedErrorSize, actualException.getErrors().size());
 
         verify(bookGateway).findByIsbn(expectedIsbn);
-        verify(loanGateway).existsByBookIdAndNotReturned(book.getId());
+        verify(loanGateway).create(any());
         verify(customerGateway).findById(expectedCustomerId);
     }
 }
\ No newline at end of file
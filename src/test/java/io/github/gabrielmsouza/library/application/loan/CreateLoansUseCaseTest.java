@@ -0,0 +1,181 @@
+package io.github.gabrielmsouza.library.application.loan;
+
+import io.github.gabrielmsouza.library.Fixture;
+import io.github.gabrielmsouza.library.application.UseCaseTest;
+import io.github.gabrielmsouza.library.application.loan.CreateLoansUseCase.Input;
+import io.github.gabrielmsouza.library.domain.book.Book;
+import io.github.gabrielmsouza.library.domain.book.BookGateway;
+import io.github.gabrielmsouza.library.domain.customer.Customer;
+import io.github.gabrielmsouza.library.domain.customer.CustomerGateway;
+import io.github.gabrielmsouza.library.domain.exceptions.NotFoundException;
+import io.github.gabrielmsouza.library.domain.exceptions.NotificationException;
+import io.github.gabrielmsouza.library.domain.loan.Loan;
+import io.github.gabrielmsouza.library.domain.loan.LoanGateway;
+import io.github.gabrielmsouza.library.domain.loan.LoanPolicy;
+import io.github.gabrielmsouza.library.domain.validation.Error;
+import io.github.gabrielmsouza.library.domain.validation.handler.Notification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CreateLoansUseCaseTest extends UseCaseTest {
+    private CreateLoansUseCase useCase;
+
+    @Mock
+    private LoanGateway loanGateway;
+
+    @Mock
+    private BookGateway bookGateway;
+
+    @Mock
+    private CustomerGateway customerGateway;
+
+    @Captor
+    private ArgumentCaptor<List<Loan>> captor;
+
+    @BeforeEach
+    void setUp() {
+        this.useCase = new CreateLoansUseCase(this.loanGateway, this.bookGateway, this.customerGateway, LoanPolicy.standard());
+    }
+
+    @Test
+    void givenABatchOfIsbns_whenCallsCreateLoans_thenShouldCreateAvailableOnesAndReportEachItem() {
+        // given
+        final var customer = Customer.with(Fixture.Customer.name(), Fixture.Customer.email());
+        final var available = Book.with(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn());
+        final var onLoan = Book.with(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn());
+        final var unknownIsbn = Fixture.Book.isbn();
+
+        final var isbns = List.of(available.getIsbn(), onLoan.getIsbn(), unknownIsbn, available.getIsbn());
+
+        when(this.customerGateway.findById(customer.getId())).thenReturn(Optional.of(customer));
+        when(this.bookGateway.findAllByIsbns(anyCollection())).thenReturn(List.of(available, onLoan));
+        when(this.loanGateway.findActiveBookIds(anyCollection())).thenReturn(Set.of(onLoan.getId()));
+        when(this.loanGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutput = this.useCase.execute(new Input(customer.getId(), isbns));
+
+        // then
+        final var items = actualOutput.items();
+        assertEquals(4, items.size());
+        assertNotNull(items.get(0).loanId());
+        assertTrue(items.get(0).errors().isEmpty());
+        assertEquals("Book with ID %s is already on loan".formatted(onLoan.getId()), items.get(1).errors().getFirst().message());
+        assertEquals("Book with ISBN %s was not found".formatted(unknownIsbn), items.get(2).errors().getFirst().message());
+        assertEquals("Duplicated isbn %s in request".formatted(available.getIsbn()), items.get(3).errors().getFirst().message());
+
+        verify(this.loanGateway).createAll(this.captor.capture());
+        final var actualLoans = this.captor.getValue();
+        assertEquals(1, actualLoans.size());
+        assertEquals(items.get(0).loanId(), actualLoans.getFirst().getId());
+        assertEquals(customer.getId(), actualLoans.getFirst().getCustomerId());
+        assertEquals(available.getId(), actualLoans.getFirst().getBookId());
+    }
+
+    @Test
+    void givenABookLoanedBetweenTheCheckAndTheInsert_whenCallsCreateLoans_thenShouldReportItAndCreateTheOthers() {
+        // given
+        final var customer = Customer.with(Fixture.Customer.name(), Fixture.Customer.email());
+        final var available = Book.with(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn());
+        final var raced = Book.with(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn());
+
+        when(this.customerGateway.findById(customer.getId())).thenReturn(Optional.of(customer));
+        when(this.bookGateway.findAllByIsbns(anyCollection())).thenReturn(List.of(available, raced));
+        when(this.loanGateway.findActiveBookIds(anyCollection())).thenReturn(Set.of(), Set.of(raced.getId()));
+        when(this.loanGateway.createAll(any()))
+                .thenThrow(loanedByAnotherRequest())
+                .thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutput = this.useCase.execute(new Input(customer.getId(), List.of(available.getIsbn(), raced.getIsbn())));
+
+        // then
+        final var items = actualOutput.items();
+        assertEquals(2, items.size());
+        assertEquals(available.getIsbn(), items.get(0).isbn());
+        assertNotNull(items.get(0).loanId());
+        assertTrue(items.get(0).errors().isEmpty());
+        assertEquals(raced.getIsbn(), items.get(1).isbn());
+        assertNull(items.get(1).loanId());
+        assertEquals("Book with ID %s is already on loan".formatted(raced.getId()), items.get(1).errors().getFirst().message());
+
+        verify(this.loanGateway, times(2)).createAll(this.captor.capture());
+        final var retried = this.captor.getAllValues().getLast();
+        assertEquals(1, retried.size());
+        assertEquals(available.getId(), retried.getFirst().getBookId());
+        verify(this.loanGateway, never()).create(any());
+    }
+
+    @Test
+    void givenTheBatchIsRejectedButNoBookIsOnLoanYet_whenCallsCreateLoans_thenShouldFallBackToOneByOne() {
+        // given
+        final var customer = Customer.with(Fixture.Customer.name(), Fixture.Customer.email());
+        final var available = Book.with(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn());
+        final var raced = Book.with(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn());
+        final var expectedError = "Book with ID %s is already on loan".formatted(raced.getId());
+
+        when(this.customerGateway.findById(customer.getId())).thenReturn(Optional.of(customer));
+        when(this.bookGateway.findAllByIsbns(anyCollection())).thenReturn(List.of(available, raced));
+        when(this.loanGateway.findActiveBookIds(anyCollection())).thenReturn(Set.of());
+        when(this.loanGateway.createAll(any())).thenThrow(loanedByAnotherRequest());
+        when(this.loanGateway.create(any())).thenAnswer(invocation -> {
+            final Loan loan = invocation.getArgument(0);
+            if (loan.getBookId().equals(raced.getId())) {
+                throw NotificationException.with("Invalid loan", Notification.create(Error.with(expectedError)));
+            }
+            return loan;
+        });
+
+        // when
+        final var actualOutput = this.useCase.execute(new Input(customer.getId(), List.of(available.getIsbn(), raced.getIsbn())));
+
+        // then
+        final var items = actualOutput.items();
+        assertNotNull(items.get(0).loanId());
+        assertTrue(items.get(0).errors().isEmpty());
+        assertNull(items.get(1).loanId());
+        assertEquals(expectedError, items.get(1).errors().getFirst().message());
+        verify(this.loanGateway, times(2)).create(any());
+    }
+
+    @Test
+    void givenAnUnknownCustomer_whenCallsCreateLoans_thenShouldThrowNotFoundException() {
+        // given
+        final var customerId = Fixture.randomId();
+        final var expectedErrorMessage = "Customer with ID %s was not found".formatted(customerId);
+
+        when(this.customerGateway.findById(customerId)).thenReturn(Optional.empty());
+
+        // when
+        final var actualException = assertThrows(NotFoundException.class,
+                () -> this.useCase.execute(new Input(customerId, List.of(Fixture.Book.isbn()))));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        verify(this.bookGateway, never()).findAllByIsbns(any());
+        verify(this.loanGateway, never()).createAll(any());
+    }
+
+    private static NotificationException loanedByAnotherRequest() {
+        return NotificationException.with(
+                "Invalid loan",
+                Notification.create(Error.with("One of the books was loaned by another request"))
+        );
+    }
+}
@@ -0,0 +1,249 @@
+package io.github.gabrielmsouza.library.application.loan;
+
+import io.github.gabrielmsouza.library.Fixture;
+import io.github.gabrielmsouza.library.application.UseCaseTest;
+import io.github.gabrielmsouza.library.domain.book.Book;
+import io.github.gabrielmsouza.library.domain.book.BookGateway;
+import io.github.gabrielmsouza.library.domain.customer.Customer;
+import io.github.gabrielmsouza.library.domain.customer.CustomerGateway;
+import io.github.gabrielmsouza.library.domain.job.JobRun;
+import io.github.gabrielmsouza.library.domain.job.JobRunGateway;
+import io.github.gabrielmsouza.library.domain.job.JobRunStatus;
+import io.github.gabrielmsouza.library.domain.loan.Loan;
+import io.github.gabrielmsouza.library.domain.loan.LoanGateway;
+import io.github.gabrielmsouza.library.domain.loan.LoanKey;
+import io.github.gabrielmsouza.library.domain.loan.ReminderSchedule;
+import io.github.gabrielmsouza.library.domain.mail.EmailOutboxGateway;
+import io.github.gabrielmsouza.library.domain.mail.LateLoansDigest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class NotifyLateLoansUseCaseTest extends UseCaseTest {
+    private static final int CHUNK_SIZE = 3;
+
+    private NotifyLateLoansUseCase useCase;
+
+    @Mock
+    private JobRunGateway jobRunGateway;
+
+    @Mock
+    private LoanGateway loanGateway;
+
+    @Mock
+    private CustomerGateway customerGateway;
+
+    @Mock
+    private BookGateway bookGateway;
+
+    @Mock
+    private EmailOutboxGateway outboxGateway;
+
+    @Captor
+    private ArgumentCaptor<List<LateLoansDigest>> digestCaptor;
+
+    @Captor
+    private ArgumentCaptor<JobRun> runCaptor;
+
+    private Customer john;
+    private Customer mary;
+    private Book firstBook;
+    private Book secondBook;
+    private Book thirdBook;
+
+    @BeforeEach
+    void setUp() {
+        this.useCase = new NotifyLateLoansUseCase(
+                this.jobRunGateway,
+                this.loanGateway,
+                this.customerGateway,
+                this.bookGateway,
+                this.outboxGateway,
+                ReminderSchedule.with(List.of(0, 3, 10)),
+                CHUNK_SIZE
+        );
+        this.john = Customer.with(Fixture.Customer.name(), Fixture.Customer.email());
+        this.mary = Customer.with(Fixture.Customer.name(), Fixture.Customer.email());
+        this.firstBook = Book.with(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn());
+        this.secondBook = Book.with(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn());
+        this.thirdBook = Book.with(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn());
+    }
+
+    @Test
+    void givenAFullChunkOnANewRun_whenCallsExecute_thenShouldEnqueueFinishedCustomersAndCheckpoint() {
+        // given
+        final var firstLoanDate = Instant.now().minus(8, ChronoUnit.DAYS);
+        final var first = Loan.with(Fixture.randomId(), john.getId(), firstBook.getId(), firstLoanDate, firstLoanDate.plus(Loan.DEFAULT_LOAN_PERIOD), null, false);
+        final var second = Loan.with(mary.getId(), secondBook.getId());
+        final var third = Loan.with(mary.getId(), thirdBook.getId());
+
+        when(this.jobRunGateway.findRunning(NotifyLateLoansUseCase.JOB_NAME)).thenReturn(Optional.empty());
+        when(this.jobRunGateway.create(any())).thenAnswer(returnsFirstArg());
+        when(this.loanGateway.findAllLateLoans(any(), any(), isNull(), eq(CHUNK_SIZE))).thenReturn(List.of(first, second, third));
+        givenCustomersAndBooks();
+
+        // when
+        final var actualOutput = this.useCase.execute();
+
+        // then
+        assertEquals(1, actualOutput.processed());
+        assertEquals(1, actualOutput.queued());
+        assertEquals(0, actualOutput.skipped());
+        assertFalse(actualOutput.completed());
+
+        verify(this.customerGateway, never()).findById(any());
+        verify(this.loanGateway).markNotified(Map.of(first.getId(), 2));
+        verify(this.outboxGateway).enqueue(digestCaptor.capture());
+
+        final var digests = digestCaptor.getValue();
+        assertEquals(1, digests.size());
+        assertEquals(john.getEmail(), digests.get(0).email());
+        assertEquals(List.of(firstBook.getTitle()), digests.get(0).titles());
+
+        verify(this.jobRunGateway).update(runCaptor.capture());
+        final var actualRun = runCaptor.getValue();
+        assertEquals(actualOutput.runId(), actualRun.getId());
+        assertEquals(LoanKey.of(first), actualRun.getCheckpoint());
+        assertEquals(1, actualRun.getProcessed());
+        assertEquals(JobRunStatus.RUNNING, actualRun.getStatus());
+    }
+
+    @Test
+    void givenARunningJob_whenCallsExecute_thenShouldResumeFromItsCheckpointAndComplete() {
+        // given
+        final var first = Loan.with(john.getId(), firstBook.getId());
+        final var second = Loan.with(mary.getId(), secondBook.getId());
+        final var third = Loan.with(mary.getId(), thirdBook.getId());
+
+        final var runDate = LocalDate.now().minusDays(1);
+        final var run = JobRun.start(NotifyLateLoansUseCase.JOB_NAME, runDate);
+        run.checkpoint(LoanKey.of(first), 1, 1, 0);
+
+        when(this.jobRunGateway.findRunning(NotifyLateLoansUseCase.JOB_NAME)).thenReturn(Optional.of(run));
+        when(this.loanGateway.findAllLateLoans(any(), eq(runDate), eq(LoanKey.of(first)), eq(CHUNK_SIZE))).thenReturn(List.of(second, third));
+        givenCustomersAndBooks();
+
+        // when
+        final var actualOutput = this.useCase.execute();
+
+        // then
+        assertEquals(2, actualOutput.processed());
+        assertEquals(1, actualOutput.queued());
+        assertTrue(actualOutput.completed());
+
+        verify(this.jobRunGateway, never()).create(any());
+        verify(this.loanGateway).markNotified(Map.of(second.getId(), 0, third.getId(), 0));
+        verify(this.outboxGateway).enqueue(digestCaptor.capture());
+
+        final var digests = digestCaptor.getValue();
+        assertEquals(mary.getEmail(), digests.get(0).email());
+        assertEquals(List.of(secondBook.getTitle(), thirdBook.getTitle()), digests.get(0).titles());
+
+        verify(this.jobRunGateway).update(runCaptor.capture());
+        final var actualRun = runCaptor.getValue();
+        assertEquals(LoanKey.of(third), actualRun.getCheckpoint());
+        assertEquals(3, actualRun.getProcessed());
+        assertEquals(2, actualRun.getQueued());
+        assertEquals(JobRunStatus.COMPLETED, actualRun.getStatus());
+        assertNotNull(actualRun.getFinishedAt());
+    }
+
+    @Test
+    void givenAStaleRunningJob_whenCallsExecuteTwice_thenShouldFinishItAndThenStartARunForToday() {
+        // given
+        final var today = LocalDate.now();
+        final var staleRunDate = today.minusDays(3);
+        final var staleRun = JobRun.start(NotifyLateLoansUseCase.JOB_NAME, staleRunDate);
+
+        when(this.jobRunGateway.findRunning(NotifyLateLoansUseCase.JOB_NAME))
+                .thenReturn(Optional.of(staleRun))
+                .thenReturn(Optional.empty());
+        when(this.jobRunGateway.create(any())).thenAnswer(returnsFirstArg());
+        when(this.loanGateway.findAllLateLoans(any(), any(), isNull(), eq(CHUNK_SIZE))).thenReturn(List.of());
+
+        // when
+        final var staleOutput = this.useCase.execute();
+        final var todayOutput = this.useCase.execute();
+
+        // then
+        assertEquals(staleRun.getId(), staleOutput.runId());
+        assertEquals(staleRunDate, staleOutput.runDate());
+        assertTrue(staleOutput.completedBefore(today));
+
+        assertNotEquals(staleRun.getId(), todayOutput.runId());
+        assertEquals(today, todayOutput.runDate());
+        assertTrue(todayOutput.completed());
+        assertFalse(todayOutput.completedBefore(today));
+
+        verify(this.loanGateway).findAllLateLoans(any(), eq(staleRunDate), isNull(), eq(CHUNK_SIZE));
+        verify(this.loanGateway).findAllLateLoans(any(), eq(today), isNull(), eq(CHUNK_SIZE));
+        verify(this.jobRunGateway).create(runCaptor.capture());
+        assertEquals(today, runCaptor.getValue().getRunDate());
+    }
+
+    @Test
+    void givenNoLateLoans_whenCallsExecute_thenShouldCompleteWithoutEnqueueingEmails() {
+        // given
+        when(this.jobRunGateway.findRunning(NotifyLateLoansUseCase.JOB_NAME)).thenReturn(Optional.empty());
+        when(this.jobRunGateway.create(any())).thenAnswer(returnsFirstArg());
+        when(this.loanGateway.findAllLateLoans(any(), any(), isNull(), eq(CHUNK_SIZE))).thenReturn(List.of());
+
+        // when
+        final var actualOutput = this.useCase.execute();
+
+        // then
+        assertEquals(0, actualOutput.processed());
+        assertTrue(actualOutput.completed());
+        verify(this.loanGateway, times(1)).findAllLateLoans(any(), any(), any(), eq(CHUNK_SIZE));
+        verify(this.jobRunGateway).update(any());
+        verifyNoInteractions(this.customerGateway, this.bookGateway, this.outboxGateway);
+    }
+
+    @Test
+    void givenTodaysRunIsAlreadyCompleted_whenCallsExecute_thenShouldNotStartAnotherRun() {
+        // given
+        final var completedRun = JobRun.start(NotifyLateLoansUseCase.JOB_NAME, LocalDate.now());
+        completedRun.complete();
+
+        when(this.jobRunGateway.findRunning(NotifyLateLoansUseCase.JOB_NAME)).thenReturn(Optional.empty());
+        when(this.jobRunGateway.findByRunDate(NotifyLateLoansUseCase.JOB_NAME, LocalDate.now())).thenReturn(Optional.of(completedRun));
+
+        // when
+        final var actualOutput = this.useCase.execute();
+
+        // then
+        assertEquals(completedRun.getId(), actualOutput.runId());
+        assertTrue(actualOutput.completed());
+        assertEquals(0, actualOutput.processed());
+        verify(this.jobRunGateway, never()).create(any());
+        verify(this.jobRunGateway, never()).update(any());
+        verifyNoInteractions(this.loanGateway, this.outboxGateway);
+    }
+
+    private void givenCustomersAndBooks() {
+        when(this.customerGateway.findAllByIds(anyCollection())).thenAnswer(invocation -> {
+            final var ids = invocation.<Collection<String>>getArgument(0);
+            return Stream.of(john, mary).filter(customer -> ids.contains(customer.getId())).toList();
+        });
+        when(this.bookGateway.findAllByIds(anyCollection())).thenAnswer(invocation -> {
+            final var ids = invocation.<Collection<String>>getArgument(0);
+            return Stream.of(firstBook, secondBook, thirdBook).filter(book -> ids.contains(book.getId())).toList();
+        });
+    }
+}
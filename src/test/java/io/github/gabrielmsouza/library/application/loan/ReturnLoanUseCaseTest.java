@@ -3,18 +3,18 @@ package io.github.gabrielmsouza.library.application.loan;
 import io.github.gabrielmsouza.library.Fixture;
 import io.github.gabrielmsouza.library.application.UseCaseTest;
 import io.github.gabrielmsouza.library.domain.exceptions.NotFoundException;
+import io.github.gabrielmsouza.library.domain.exceptions.NotificationException;
 import io.github.gabrielmsouza.library.domain.loan.Loan;
 import io.github.gabrielmsouza.library.domain.loan.LoanGateway;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class ReturnLoanUseCaseTest extends UseCaseTest {
@@ -24,33 +24,21 @@ class ReturnLoanUseCaseTest extends UseCaseTest {
     @Mock
     private LoanGateway gateway;
 
-    @Captor
-    private ArgumentCaptor<Loan> captor;
-
     @Test
     void givenAValidId_whenCallsReturnLoan_thenShouldBeOk() {
         // given
-        final var expectedIsbn = Fixture.Book.isbn();
-        final var expectedCustomerId = Fixture.randomId();
-
-        final var loan = Loan.with(expectedCustomerId, expectedIsbn);
+        final var loan = Loan.with(Fixture.randomId(), Fixture.Book.isbn());
         final var expectedId = loan.getId();
 
-        when(this.gateway.findById(expectedId)).thenReturn(Optional.of(loan));
-        when(this.gateway.update(any())).thenAnswer(returnsFirstArg());
+        when(this.gateway.markReturned(eq(expectedId), any())).thenReturn(true);
 
         // when
         assertDoesNotThrow(() -> this.useCase.execute(expectedId));
 
         // then
-        verify(this.gateway).findById(expectedId);
-
-        verify(this.gateway).update(captor.capture());
-        final var actualLoan = captor.getValue();
-        assertEquals(expectedId, actualLoan.getId());
-        assertEquals(expectedCustomerId, actualLoan.getCustomerId());
-        assertEquals(expectedIsbn, actualLoan.getBookId());
-        assertTrue(actualLoan.isReturned());
+        verify(this.gateway).markReturned(eq(expectedId), any());
+        verify(this.gateway, never()).findById(any());
+        verify(this.gateway, never()).update(any());
     }
 
     @Test
@@ -59,6 +47,7 @@ class ReturnLoanUseCaseTest extends UseCaseTest {
         final var expectedId = Fixture.randomId();
         final var expectedErrorMessage = "Loan with ID %s was not found".formatted(expectedId);
 
+        when(this.gateway.markReturned(eq(expectedId), any())).thenReturn(false);
         when(this.gateway.findById(expectedId)).thenReturn(Optional.empty());
 
         // when
@@ -71,4 +60,23 @@ class ReturnLoanUseCaseTest extends UseCaseTest {
         verify(this.gateway).findById(expectedId);
         verify(this.gateway, never()).update(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenAnAlreadyReturnedLoan_whenCallsReturnLoan_thenShouldThrowNotificationException() {
+        // given
+        final var loan = Loan.with(Fixture.randomId(), Fixture.Book.isbn());
+        loan.returned();
+        final var expectedId = loan.getId();
+        final var expectedErrorMessage = "Loan with ID %s was already returned".formatted(expectedId);
+
+        when(this.gateway.markReturned(eq(expectedId), any())).thenReturn(false);
+        when(this.gateway.findById(expectedId)).thenReturn(Optional.of(loan));
+
+        // when
+        final var actualException = assertThrows(NotificationException.class, () -> this.useCase.execute(expectedId));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getErrors().getFirst().message());
+        verify(this.gateway, never()).update(any());
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.gabrielmsouza.library.application.loan;
+
+import io.github.gabrielmsouza.library.Fixture;
+import io.github.gabrielmsouza.library.application.UseCaseTest;
+import io.github.gabrielmsouza.library.application.loan.ReturnLoansUseCase.Input;
+import io.github.gabrielmsouza.library.domain.loan.Loan;
+import io.github.gabrielmsouza.library.domain.loan.LoanGateway;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReturnLoansUseCaseTest extends UseCaseTest {
+    @InjectMocks
+    private ReturnLoansUseCase useCase;
+
+    @Mock
+    private LoanGateway gateway;
+
+    @Test
+    void givenABatchOfLoanIds_whenCallsReturnLoans_thenShouldReturnOpenOnesAndReportEachItem() {
+        // given
+        final var openId = Fixture.randomId();
+        final var alreadyReturned = Loan.with(Fixture.randomId(), Fixture.randomId());
+        alreadyReturned.returned();
+        final var unknownId = Fixture.randomId();
+
+        when(this.gateway.markAllReturned(anyCollection(), any())).thenReturn(Set.of(openId));
+        when(this.gateway.findAllByIds(anyCollection())).thenReturn(List.of(alreadyReturned));
+
+        // when
+        final var actualOutput = this.useCase.execute(new Input(List.of(openId, alreadyReturned.getId(), unknownId, openId)));
+
+        // then
+        final var items = actualOutput.items();
+        assertEquals(4, items.size());
+        assertTrue(items.get(0).returned());
+        assertFalse(items.get(1).returned());
+        assertEquals("Loan with ID %s was already returned".formatted(alreadyReturned.getId()), items.get(1).errors().getFirst().message());
+        assertFalse(items.get(2).returned());
+        assertEquals("Loan with ID %s was not found".formatted(unknownId), items.get(2).errors().getFirst().message());
+        assertFalse(items.get(3).returned());
+        assertEquals("Duplicated loan %s in request".formatted(openId), items.get(3).errors().getFirst().message());
+
+        verify(this.gateway).markAllReturned(eq(List.of(openId, alreadyReturned.getId(), unknownId)), any());
+        verify(this.gateway).findAllByIds(List.of(alreadyReturned.getId(), unknownId));
+    }
+
+    @Test
+    void givenEveryLoanIsReturned_whenCallsReturnLoans_thenShouldNotLoadAnyLoan() {
+        // given
+        final var ids = List.of(Fixture.randomId(), Fixture.randomId());
+
+        when(this.gateway.markAllReturned(anyCollection(), any())).thenReturn(Set.copyOf(ids));
+
+        // when
+        final var actualOutput = this.useCase.execute(new Input(ids));
+
+        // then
+        assertTrue(actualOutput.items().stream().allMatch(ReturnLoansUseCase.Item::returned));
+        verify(this.gateway, never()).findAllByIds(anyCollection());
+    }
+
+    @Test
+    void givenTheGatewayFails_whenCallsReturnLoans_thenShouldReportTheErrorForEachLoan() {
+        // given
+        final var ids = List.of(Fixture.randomId(), Fixture.randomId());
+
+        when(this.gateway.markAllReturned(anyCollection(), any())).thenThrow(new IllegalStateException("Gateway error"));
+
+        // when
+        final var actualOutput = this.useCase.execute(new Input(ids));
+
+        // then
+        assertEquals(2, actualOutput.items().size());
+        assertTrue(actualOutput.items().stream().noneMatch(ReturnLoansUseCase.Item::returned));
+        assertTrue(actualOutput.items().stream().allMatch(item -> "Gateway error".equals(item.errors().getFirst().message())));
+        verify(this.gateway, never()).findAllByIds(anyCollection());
+    }
+}
@@ -168,6 +168,46 @@ class BookTest extends UnitTest {
         assertEquals(expectedErrorCount, actualException.getErrors().size());
     }
 
+    @Test
+    void givenAnIsbnLongerThanTheColumn_whenCallsCreateBook_thenShouldReceiveANotification() {
+        // given
+        final var expectedTitle = Fixture.Book.title();
+        final var expectedAuthor = Fixture.Book.author();
+        final var expectedIsbn = "9".repeat(Book.ISBN_MAX_LENGTH + 1);
+
+        final var expectedErrorCount = 1;
+        final var expectedErrorMessage = "'isbn' must be at most 32 characters";
+
+        // when
+        final var actualException =
+                assertThrows(NotificationException.class, () -> Book.with(expectedTitle, expectedAuthor, expectedIsbn));
+
+        // then
+        assertNotNull(actualException);
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        assertEquals(expectedErrorCount, actualException.getErrors().size());
+    }
+
+    @Test
+    void givenATitleLongerThanTheColumn_whenCallsCreateBook_thenShouldReceiveANotification() {
+        // given
+        final var expectedTitle = "a".repeat(Book.TEXT_MAX_LENGTH + 1);
+        final var expectedAuthor = Fixture.Book.author();
+        final var expectedIsbn = Fixture.Book.isbn();
+
+        final var expectedErrorCount = 1;
+        final var expectedErrorMessage = "'title' must be at most 255 characters";
+
+        // when
+        final var actualException =
+                assertThrows(NotificationException.class, () -> Book.with(expectedTitle, expectedAuthor, expectedIsbn));
+
+        // then
+        assertNotNull(actualException);
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        assertEquals(expectedErrorCount, actualException.getErrors().size());
+    }
+
     @Test
     void givenAValidBook_whenCallsUpdate_thenShouldUpdateIt() {
         // given
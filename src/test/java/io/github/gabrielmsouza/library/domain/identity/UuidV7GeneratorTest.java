@@ -0,0 +1,49 @@
+package io.github.gabrielmsouza.library.domain.identity;
+
+import io.github.gabrielmsouza.library.domain.UnitTest;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7GeneratorTest extends UnitTest {
+
+    @Test
+    void givenAGenerator_whenCallsGenerate_thenShouldReturnACompactVersion7Uuid() {
+        // given
+        final var generator = new UuidV7Generator();
+
+        // when
+        final var actualId = generator.generate();
+
+        // then
+        assertEquals(32, actualId.length());
+        assertTrue(actualId.matches("[0-9a-f]{32}"));
+
+        final var uuid = UUID.fromString(actualId.replaceFirst(
+                "(\\p{XDigit}{8})(\\p{XDigit}{4})(\\p{XDigit}{4})(\\p{XDigit}{4})(\\p{XDigit}+)",
+                "$1-$2-$3-$4-$5"
+        ));
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    void givenIdsGeneratedInDifferentMilliseconds_whenCompared_thenShouldBeOrderedByTime() {
+        // given
+        final var earlier = new UuidV7Generator(Clock.fixed(Instant.ofEpochMilli(1_700_000_000_000L), ZoneOffset.UTC));
+        final var later = new UuidV7Generator(Clock.fixed(Instant.ofEpochMilli(1_700_000_000_001L), ZoneOffset.UTC));
+
+        // when
+        final var actualEarlierId = earlier.generate();
+        final var actualLaterId = later.generate();
+
+        // then
+        assertTrue(actualEarlierId.compareTo(actualLaterId) < 0);
+        assertNotEquals(earlier.generate(), actualEarlierId);
+    }
+}
@@ -5,6 +5,10 @@ import io.github.gabrielmsouza.library.application.UseCaseTest;
 import io.github.gabrielmsouza.library.domain.exceptions.NotificationException;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class LoanTest extends UseCaseTest {
@@ -107,4 +111,55 @@ class LoanTest extends UseCaseTest {
         assertTrue(loan.isReturned());
         assertNotNull(loan.getReturnDate());
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenANullDueDate_whenCreateLoan_thenShouldReceiveANotification() {
+        // given
+        final var loanDate = Instant.now();
+
+        final var expectedErrorCount = 1;
+        final var expectedErrorMessage = "'dueDate' should not be null";
+
+        // when
+        final var actualException = assertThrows(
+                NotificationException.class,
+                () -> Loan.with(Fixture.randomId(), Fixture.randomId(), Fixture.randomId(), loanDate, null, null, false)
+        );
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        assertEquals(expectedErrorCount, actualException.getErrors().size());
+    }
+
+    @Test
+    void givenADueDateBeforeTheLoanDate_whenCreateLoan_thenShouldReceiveANotification() {
+        // given
+        final var loanDate = Instant.now();
+        final var dueDate = loanDate.minus(1, ChronoUnit.DAYS);
+
+        final var expectedErrorCount = 1;
+        final var expectedErrorMessage = "'dueDate' should not be before 'loanDate'";
+
+        // when
+        final var actualException = assertThrows(
+                NotificationException.class,
+                () -> Loan.with(Fixture.randomId(), Fixture.randomId(), Fixture.randomId(), loanDate, dueDate, null, false)
+        );
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        assertEquals(expectedErrorCount, actualException.getErrors().size());
+    }
+
+    @Test
+    void givenALoanPeriod_whenCreateLoan_thenShouldBeDueThatLongAfterTheLoanDate() {
+        // given
+        final var expectedPeriod = Duration.ofDays(14);
+
+        // when
+        final var loan = Loan.with(Fixture.randomId(), Fixture.randomId(), expectedPeriod);
+
+        // then
+        assertEquals(loan.getLoanDate().plus(expectedPeriod), loan.getDueDate());
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.gabrielmsouza.library.domain.loan;
+
+import io.github.gabrielmsouza.library.domain.UnitTest;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReminderScheduleTest extends UnitTest {
+    private static final ReminderSchedule SCHEDULE = ReminderSchedule.with(List.of(0, 3, 10));
+    private static final Instant DUE_DATE = Instant.parse("2026-10-05T10:00:00Z");
+
+    @Test
+    void givenALoanDueOnAGivenDay_whenCallsRemindersDue_thenShouldSendTheFirstReminderThatDay() {
+        // when
+        final var dayBefore = SCHEDULE.remindersDue(DUE_DATE, LocalDate.parse("2026-10-04"));
+        final var dueDay = SCHEDULE.remindersDue(DUE_DATE, LocalDate.parse("2026-10-05"));
+
+        // then
+        assertEquals(0, dayBefore);
+        assertEquals(1, dueDay);
+    }
+
+    @Test
+    void givenALoanDueOnAGivenDay_whenCallsRemindersDue_thenShouldSendFollowUpsOnTheScheduledDays() {
+        // then
+        assertEquals(1, SCHEDULE.remindersDue(DUE_DATE, LocalDate.parse("2026-10-07")));
+        assertEquals(2, SCHEDULE.remindersDue(DUE_DATE, LocalDate.parse("2026-10-08")));
+        assertEquals(2, SCHEDULE.remindersDue(DUE_DATE, LocalDate.parse("2026-10-14")));
+        assertEquals(3, SCHEDULE.remindersDue(DUE_DATE, LocalDate.parse("2026-10-15")));
+    }
+
+    @Test
+    void givenAnEmptyListOfDays_whenCreatesASchedule_thenShouldThrowIllegalArgumentException() {
+        // when
+        final var actualException = assertThrows(IllegalArgumentException.class, () -> ReminderSchedule.with(List.of()));
+
+        // then
+        assertEquals("'days' should not be empty", actualException.getMessage());
+    }
+}
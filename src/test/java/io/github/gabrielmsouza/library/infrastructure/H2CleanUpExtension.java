@@ -1,7 +1,11 @@
 package io.github.gabrielmsouza.library.infrastructure;
 
 import io.github.gabrielmsouza.library.infrastructure.book.persistnce.BookRepository;
+import io.github.gabrielmsouza.library.infrastructure.book.persistnce.BookSearchTokenRepository;
 import io.github.gabrielmsouza.library.infrastructure.customer.persistence.CustomerRepository;
+import io.github.gabrielmsouza.library.infrastructure.email.persistence.EmailOutboxRepository;
+import io.github.gabrielmsouza.library.infrastructure.job.persistence.JobRunRepository;
+import io.github.gabrielmsouza.library.infrastructure.loan.persistence.LoanNotificationRepository;
 import io.github.gabrielmsouza.library.infrastructure.loan.persistence.LoanRepository;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -17,9 +21,13 @@ public class H2CleanUpExtension implements BeforeEachCallback {
     public void beforeEach(final ExtensionContext context) {
         final var appContext = SpringExtension.getApplicationContext(context);
         cleanUp(List.of(
+                appContext.getBean(BookSearchTokenRepository.class),
                 appContext.getBean(BookRepository.class),
+                appContext.getBean(LoanNotificationRepository.class),
                 appContext.getBean(LoanRepository.class),
-                appContext.getBean(CustomerRepository.class)
+                appContext.getBean(CustomerRepository.class),
+                appContext.getBean(EmailOutboxRepository.class),
+                appContext.getBean(JobRunRepository.class)
         ));
     }
 
@@ -1,5 +1,6 @@
 package io.github.gabrielmsouza.library.infrastructure;
 
+import io.github.gabrielmsouza.library.infrastructure.pagination.ApproximateCountCache;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
@@ -25,7 +26,8 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
         basePackages = "io.github.gabrielmsouza.library",
         useDefaultFilters = false,
         includeFilters = {
-                @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*H2Gateway")
+                @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*H2Gateway"),
+                @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = ApproximateCountCache.class)
         }
 )
 public @interface H2GatewayTest {
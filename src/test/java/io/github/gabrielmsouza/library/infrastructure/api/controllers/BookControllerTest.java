@@ -5,6 +5,7 @@ import io.github.gabrielmsouza.library.Fixture;
 import io.github.gabrielmsouza.library.application.book.*;
 import io.github.gabrielmsouza.library.application.book.CreateBookUseCase.Output;
 import io.github.gabrielmsouza.library.domain.book.Book;
+import io.github.gabrielmsouza.library.domain.book.BookGateway;
 import io.github.gabrielmsouza.library.domain.exceptions.NotFoundException;
 import io.github.gabrielmsouza.library.domain.exceptions.NotificationException;
 import io.github.gabrielmsouza.library.domain.pagination.Pagination;
@@ -20,14 +21,19 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -54,6 +60,83 @@ class BookControllerTest {
     @MockBean
     private ListBooksUseCase listBooksUseCase;
 
+    @MockBean
+    private GetLoansByBookUseCase getLoansByBookUseCase;
+
+    @MockBean
+    private ImportBooksUseCase importBooksUseCase;
+
+    @Test
+    void givenANdjsonStream_whenCallsImportBooks_thenShouldReturnPerRowReport() throws Exception {
+        // given
+        final var first = new CreateBookRequest(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn());
+        final var second = new CreateBookRequest("", Fixture.Book.author(), Fixture.Book.isbn());
+        final var expectedId = Fixture.randomId();
+        final var expectedError = Error.with("'title' should not be empty");
+
+        when(importBooksUseCase.execute(any())).thenAnswer(invocation -> {
+            final Iterator<CreateBookUseCase.Input> inputs = invocation.getArgument(0);
+            final var received = new ArrayList<CreateBookUseCase.Input>();
+            inputs.forEachRemaining(received::add);
+            assertEquals(List.of(CreateBookUseCase.Input.from(first), CreateBookUseCase.Input.from(second)), received);
+            return ImportBooksUseCase.Output.from(List.of(
+                    ImportBooksUseCase.Row.imported(0, first.isbn(), expectedId),
+                    ImportBooksUseCase.Row.failed(1, second.isbn(), List.of(expectedError))
+            ));
+        });
+
+        final var request = post("/books/bulk")
+                .contentType(APPLICATION_NDJSON)
+                .content(mapper.writeValueAsString(first) + "\n" + mapper.writeValueAsString(second) + "\n");
+
+        // when
+        final var response = this.mvc.perform(request);
+
+        // then
+        response
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.imported", equalTo(1)))
+            .andExpect(jsonPath("$.failed", equalTo(1)))
+            .andExpect(jsonPath("$.rows", hasSize(2)))
+            .andExpect(jsonPath("$.rows[0].id", equalTo(expectedId)))
+            .andExpect(jsonPath("$.rows[1].errors[0].message", equalTo(expectedError.message())));
+
+        verify(importBooksUseCase, times(1)).execute(any());
+    }
+
+    @Test
+    void givenAnUnmappableRowAndATruncatedStream_whenCallsImportBooks_thenShouldReturnThePartialReport() throws Exception {
+        // given
+        final var first = new CreateBookRequest(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn());
+        final var third = new CreateBookRequest(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn());
+        final var unmappable = "{\"title\": {\"text\": \"Nested\"}, \"author\": \"Someone\", \"isbn\": \"123\"}";
+
+        final var gateway = mock(BookGateway.class);
+        when(gateway.findExistingIsbns(anyCollection())).thenReturn(Set.of());
+        when(gateway.createAll(any())).thenAnswer(returnsFirstArg());
+        when(importBooksUseCase.execute(any())).thenAnswer(invocation ->
+                new ImportBooksUseCase(gateway, 10).execute(invocation.getArgument(0)));
+
+        final var request = post("/books/bulk")
+                .contentType(APPLICATION_NDJSON)
+                .content(mapper.writeValueAsString(first) + "\n" + unmappable + "\n" + mapper.writeValueAsString(third) + "\nnot-json\n");
+
+        // when
+        final var response = this.mvc.perform(request);
+
+        // then
+        response
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.imported", equalTo(2)))
+            .andExpect(jsonPath("$.failed", equalTo(2)))
+            .andExpect(jsonPath("$.rows", hasSize(4)))
+            .andExpect(jsonPath("$.rows[1].errors[0].message", equalTo("Malformed book")))
+            .andExpect(jsonPath("$.rows[2].isbn", equalTo(third.isbn())))
+            .andExpect(jsonPath("$.rows[3].errors[0].message", equalTo("Malformed books payload, the remaining rows were not read")));
+
+        verify(gateway, times(1)).createAll(any());
+    }
+
     @Test
     void givenAValidRequest_whenCallsCreateBook_thenShouldReturnBookId() throws Exception {
         // given
@@ -215,6 +298,38 @@ class BookControllerTest {
         verify(getBookByIdUseCase).execute(eq(expectedId));
     }
 
+    @Test
+    void givenAValidId_whenCallsGetLoansById_thenShouldReturnBookLoans() throws Exception {
+        // given
+        final var expectedTitle = Fixture.Book.title();
+        final var expectedAuthor = Fixture.Book.author();
+        final var expectedLoanId = Fixture.randomId();
+
+        final var book = Book.with(Fixture.randomId(), expectedTitle, expectedAuthor, Fixture.Book.isbn(), List.of(expectedLoanId));
+
+        final var expectedId = book.getId();
+
+        when(getLoansByBookUseCase.execute(any())).thenReturn(GetLoansByBookUseCase.Output.from(book));
+
+        final var request = get("/books/{id}/loans", expectedId)
+            .accept(APPLICATION_JSON);
+
+        // when
+        final var response = this.mvc.perform(request);
+
+        // then
+        response
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.id", equalTo(expectedId)))
+            .andExpect(jsonPath("$.title", equalTo(expectedTitle)))
+            .andExpect(jsonPath("$.author", equalTo(expectedAuthor)))
+            .andExpect(jsonPath("$.loans", hasSize(1)))
+            .andExpect(jsonPath("$.loans[0]", equalTo(expectedLoanId)));
+
+        verify(getLoansByBookUseCase, times(1)).execute(eq(expectedId));
+    }
+
     @Test
     void givenAValidId_whenCallsDeleteById_thenShouldDeleteIt() throws Exception {
         // given
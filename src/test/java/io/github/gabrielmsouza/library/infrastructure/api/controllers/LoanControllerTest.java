@@ -4,8 +4,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.gabrielmsouza.library.Fixture;
 import io.github.gabrielmsouza.library.application.book.ListBooksUseCase;
 import io.github.gabrielmsouza.library.application.loan.CreateLoanUseCase;
+import io.github.gabrielmsouza.library.application.loan.CreateLoansUseCase;
 import io.github.gabrielmsouza.library.application.loan.ListLoansUseCase;
 import io.github.gabrielmsouza.library.application.loan.ReturnLoanUseCase;
+import io.github.gabrielmsouza.library.application.loan.ReturnLoansUseCase;
 import io.github.gabrielmsouza.library.domain.book.Book;
 import io.github.gabrielmsouza.library.domain.exceptions.NotFoundException;
 import io.github.gabrielmsouza.library.domain.exceptions.NotificationException;
@@ -18,6 +20,7 @@ import io.github.gabrielmsouza.library.domain.validation.handler.Notification;
 import io.github.gabrielmsouza.library.infrastructure.ControllerTest;
 import io.github.gabrielmsouza.library.infrastructure.api.LoanAPI;
 import io.github.gabrielmsouza.library.infrastructure.loan.models.CreateLoanRequest;
+import io.github.gabrielmsouza.library.infrastructure.loan.models.CreateLoansRequest;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -54,6 +57,47 @@ class LoanControllerTest {
     @MockBean
     private ListLoansUseCase listLoansUseCase;
 
+    @MockBean
+    private CreateLoansUseCase createLoansUseCase;
+
+    @MockBean
+    private ReturnLoansUseCase returnLoansUseCase;
+
+    @Test
+    void givenABatchRequest_whenCallsCreateLoans_thenShouldReturnEachItemOutcome() throws Exception {
+        // given
+        final var customerId = Fixture.randomId();
+        final var loanedIsbn = Fixture.Book.isbn();
+        final var unknownIsbn = Fixture.Book.isbn();
+        final var expectedLoanId = Fixture.randomId();
+        final var expectedError = Error.with("Book with ISBN %s was not found".formatted(unknownIsbn));
+
+        when(createLoansUseCase.execute(any())).thenReturn(new CreateLoansUseCase.Output(customerId, List.of(
+                CreateLoansUseCase.Item.created(loanedIsbn, expectedLoanId),
+                CreateLoansUseCase.Item.failed(unknownIsbn, List.of(expectedError))
+        )));
+
+        final var request = post("/loans/batch")
+            .contentType(APPLICATION_JSON)
+            .content(mapper.writeValueAsString(new CreateLoansRequest(customerId, List.of(loanedIsbn, unknownIsbn))));
+
+        // when
+        final var response = this.mvc.perform(request);
+
+        // then
+        response
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.customer_id", equalTo(customerId)))
+            .andExpect(jsonPath("$.items", hasSize(2)))
+            .andExpect(jsonPath("$.items[0].loan_id", equalTo(expectedLoanId)))
+            .andExpect(jsonPath("$.items[1].errors[0].message", equalTo(expectedError.message())));
+
+        final var captor = ArgumentCaptor.forClass(CreateLoansUseCase.Input.class);
+        verify(createLoansUseCase, times(1)).execute(captor.capture());
+        assertEquals(customerId, captor.getValue().customerId());
+        assertEquals(List.of(loanedIsbn, unknownIsbn), captor.getValue().isbns());
+    }
+
     @Test
     void givenAValidRequest_whenCallsCreateLoan_thenShouldReturnLoanId() throws Exception {
         // given
@@ -0,0 +1,102 @@
+package io.github.gabrielmsouza.library.infrastructure.book;
+
+import io.github.gabrielmsouza.library.Fixture;
+import io.github.gabrielmsouza.library.domain.book.Book;
+import io.github.gabrielmsouza.library.domain.pagination.SearchQuery;
+import io.github.gabrielmsouza.library.infrastructure.H2GatewayTest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@H2GatewayTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BookH2GatewayCacheTest {
+    private static final SearchQuery FIRST_PAGE = new SearchQuery(0, 10, "", "title", "asc");
+
+    @Autowired
+    private BookH2Gateway gateway;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        final var sessionFactory = this.entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        this.statistics = sessionFactory.getStatistics();
+    }
+
+    @Test
+    void givenALoadedPage_whenCallsFindAllAgain_thenShouldBeServedByTheQueryCache() {
+        // given
+        this.gateway.create(Book.with(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn()));
+        this.gateway.create(Book.with(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn()));
+        this.statistics.clear();
+
+        this.gateway.findAll(FIRST_PAGE);
+        final var expectedMisses = this.statistics.getQueryCacheMissCount();
+        assertTrue(expectedMisses > 0);
+        assertEquals(0, this.statistics.getQueryCacheHitCount());
+
+        // when
+        final var actualResult = this.gateway.findAll(FIRST_PAGE);
+
+        // then
+        assertEquals(2, actualResult.items().size());
+        assertTrue(this.statistics.getQueryCacheHitCount() > 0);
+        assertEquals(expectedMisses, this.statistics.getQueryCacheMissCount());
+    }
+
+    @Test
+    void givenACachedPage_whenABookIsUpdated_thenShouldMissAndReturnTheNewTitle() {
+        // given
+        final var book = Book.with(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn());
+        this.gateway.create(book);
+
+        this.gateway.findAll(FIRST_PAGE);
+        this.gateway.findAll(FIRST_PAGE);
+        this.statistics.clear();
+
+        final var expectedTitle = "Updated " + book.getTitle();
+
+        // when
+        this.gateway.update(Book.with(book).update(expectedTitle, book.getAuthor(), book.getIsbn()));
+        final var actualResult = this.gateway.findAll(FIRST_PAGE);
+
+        // then
+        assertEquals(0, this.statistics.getQueryCacheHitCount());
+        assertTrue(this.statistics.getQueryCacheMissCount() > 0);
+        assertEquals(expectedTitle, actualResult.items().get(0).getTitle());
+    }
+
+    @Test
+    void givenACachedPage_whenABookIsDeleted_thenShouldMissAndNotReturnIt() {
+        // given
+        final var book = Book.with(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn());
+        this.gateway.create(book);
+        this.gateway.create(Book.with(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn()));
+
+        this.gateway.findAll(FIRST_PAGE);
+        this.gateway.findAll(FIRST_PAGE);
+        this.statistics.clear();
+
+        // when
+        this.gateway.deleteById(book.getId());
+        final var actualResult = this.gateway.findAll(FIRST_PAGE);
+
+        // then
+        assertEquals(0, this.statistics.getQueryCacheHitCount());
+        assertTrue(this.statistics.getQueryCacheMissCount() > 0);
+        assertEquals(1, actualResult.items().size());
+        assertNotEquals(book.getId(), actualResult.items().get(0).getId());
+    }
+}
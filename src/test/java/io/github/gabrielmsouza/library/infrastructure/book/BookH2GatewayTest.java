@@ -4,16 +4,23 @@ package io.github.gabrielmsouza.library.infrastructure.book;
 import io.github.gabrielmsouza.library.Fixture;
 import io.github.gabrielmsouza.library.domain.book.Book;
 import io.github.gabrielmsouza.library.domain.book.BookGateway;
+import io.github.gabrielmsouza.library.domain.customer.Customer;
+import io.github.gabrielmsouza.library.domain.loan.Loan;
 import io.github.gabrielmsouza.library.domain.pagination.SearchQuery;
 import io.github.gabrielmsouza.library.infrastructure.H2GatewayTest;
 import io.github.gabrielmsouza.library.infrastructure.book.persistnce.BookJpaEntity;
 import io.github.gabrielmsouza.library.infrastructure.book.persistnce.BookRepository;
+import io.github.gabrielmsouza.library.infrastructure.customer.CustomerH2Gateway;
+import io.github.gabrielmsouza.library.infrastructure.loan.LoanH2Gateway;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @H2GatewayTest
@@ -25,6 +32,12 @@ class BookH2GatewayTest {
     @Autowired
     private BookRepository repository;
 
+    @Autowired
+    private CustomerH2Gateway customerGateway;
+
+    @Autowired
+    private LoanH2Gateway loanGateway;
+
     @Test
     void givenAValidBook_whenCallsCreate_thenShouldPersistIt() {
         // given
@@ -55,6 +68,32 @@ class BookH2GatewayTest {
         assertEquals(expectedIsbn, persistedBook.getIsbn());
     }
 
+    @Test
+    void givenAListOfBooks_whenCallsCreateAll_thenShouldPersistAndIndexThem() {
+        // given
+        final var books = List.of(
+                Book.with("Clean Architecture", "Robert Martin", "978-0134494166"),
+                Book.with("Refactoring", "Martin Fowler", "978-0134757599"),
+                Book.with("Domain-Driven Design", "Eric Evans", "978-0321125217")
+        );
+        final var isbns = books.stream().map(Book::getIsbn).toList();
+
+        assertEquals(0, this.repository.count());
+
+        // when
+        final var actualBooks = this.gateway.createAll(books);
+
+        // then
+        assertEquals(3, this.repository.count());
+        assertEquals(3, actualBooks.size());
+        assertEquals(Set.copyOf(isbns), this.gateway.findExistingIsbns(isbns));
+        assertEquals(Set.of(), this.gateway.findExistingIsbns(List.of(Fixture.Book.isbn())));
+
+        final var actualResult = this.gateway.findAll(new SearchQuery(0, 10, "refactoring", "isbn", "asc", null, true));
+        assertEquals(1, actualResult.items().size());
+        assertEquals(books.get(1).getId(), actualResult.items().getFirst().getId());
+    }
+
     @Test
     void givenAPrePersistedBooks_whenCallsExistsByIsbn_thenShouldReturnTrue() {
         // given
@@ -315,6 +354,143 @@ class BookH2GatewayTest {
         assertEquals(book3.getId(), actualResult.items().get(0).getId());
     }
 
+    @Test
+    void givenFollowCursor_whenCallsFindAllWithNextCursor_thenShouldSeekNextItems() {
+        // given
+        final var expectedPerPage = 2;
+
+        final var book1 = Book.with("Book 1", "Author 1", "1");
+        final var book2 = Book.with("Book 2", "Author 2", "2");
+        final var book3 = Book.with("Book 3", "Author 3", "3");
+
+        this.repository.saveAll(List.of(
+                BookJpaEntity.from(book1),
+                BookJpaEntity.from(book2),
+                BookJpaEntity.from(book3)
+        ));
+
+        assertEquals(3, this.repository.count());
+
+        final var firstPage = this.gateway.findAll(new SearchQuery(0, expectedPerPage, "", "isbn", "asc"));
+
+        assertEquals(expectedPerPage, firstPage.items().size());
+        assertEquals(book2.getId(), firstPage.items().get(1).getId());
+        assertNotNull(firstPage.nextCursor());
+
+        // when
+        final var query = new SearchQuery(0, expectedPerPage, "", "isbn", "asc", firstPage.nextCursor(), true);
+        final var actualResult = this.gateway.findAll(query);
+
+        // then
+        assertEquals(1, actualResult.items().size());
+        assertEquals(book3.getId(), actualResult.items().get(0).getId());
+        assertNull(actualResult.nextCursor());
+    }
+
+    @Test
+    void givenCountDisabled_whenCallsFindAll_thenShouldReturnSliceWithoutExactTotal() {
+        // given
+        final var expectedPage = 0;
+        final var expectedPerPage = 2;
+
+        final var book1 = Book.with("Book 1", "Author 1", "1");
+        final var book2 = Book.with("Book 2", "Author 2", "2");
+        final var book3 = Book.with("Book 3", "Author 3", "3");
+
+        this.repository.saveAll(List.of(
+                BookJpaEntity.from(book1),
+                BookJpaEntity.from(book2),
+                BookJpaEntity.from(book3)
+        ));
+
+        assertEquals(3, this.repository.count());
+
+        final var query = new SearchQuery(expectedPage, expectedPerPage, "", "isbn", "asc", null, false);
+
+        // when
+        final var actualResult = this.gateway.findAll(query);
+
+        // then
+        assertEquals(expectedPage, actualResult.currentPage());
+        assertEquals(expectedPerPage, actualResult.perPage());
+        assertEquals(expectedPerPage, actualResult.items().size());
+        assertEquals(book1.getId(), actualResult.items().get(0).getId());
+        assertTrue(actualResult.hasNext());
+        assertTrue(actualResult.total() >= expectedPerPage + 1);
+    }
+
+    @Test
+    void givenIndexedBooks_whenCallsFindAllWithTerms_thenShouldReturnMatchesOrderedByRelevance() {
+        // given
+        final var expectedPage = 0;
+        final var expectedPerPage = 10;
+        final var expectedTotal = 2;
+
+        final var cleanArchitecture = this.gateway.create(Book.with("Clean Architecture", "Robert Martin", "978-0134494166"));
+        final var refactoring = this.gateway.create(Book.with("Refactoring", "Martin Fowler", "978-0134757599"));
+        this.gateway.create(Book.with("Domain-Driven Design", "Eric Evans", "978-0321125217"));
+
+        final var query = new SearchQuery(expectedPage, expectedPerPage, "mart", "title", "asc");
+
+        // when
+        final var actualPage = this.gateway.findAll(query);
+
+        // then
+        assertEquals(expectedTotal, actualPage.total());
+        assertEquals(expectedTotal, actualPage.items().size());
+        assertTrue(actualPage.items().stream().anyMatch(book -> book.getId().equals(cleanArchitecture.getId())));
+        assertTrue(actualPage.items().stream().anyMatch(book -> book.getId().equals(refactoring.getId())));
+
+        final var actualRanked = this.gateway.findAll(new SearchQuery(expectedPage, expectedPerPage, "clean ARCHIT\u00C9CT", "title", "asc"));
+        assertEquals(1, actualRanked.total());
+        assertEquals(cleanArchitecture.getId(), actualRanked.items().getFirst().getId());
+
+        final var actualIsbn = this.gateway.findAll(new SearchQuery(expectedPage, expectedPerPage, "9780321125217", "title", "asc"));
+        assertEquals(1, actualIsbn.total());
+        assertEquals("Domain-Driven Design", actualIsbn.items().getFirst().getTitle());
+    }
+
+    @Test
+    void givenAnUpdatedBook_whenCallsFindAllWithTerms_thenShouldSearchTheRefreshedIndex() {
+        // given
+        final var book = this.gateway.create(Book.with("Refactoring", "Martin Fowler", "978-0134757599"));
+        this.gateway.update(Book.with(book).update("Patterns of Enterprise", "Martin Fowler", "978-0321127426"));
+
+        // when
+        final var actualOld = this.gateway.findAll(new SearchQuery(0, 10, "refactoring", "title", "asc"));
+        final var actualNew = this.gateway.findAll(new SearchQuery(0, 10, "enterprise", "title", "asc"));
+
+        // then
+        assertEquals(0, actualOld.total());
+        assertEquals(1, actualNew.total());
+        assertEquals(book.getId(), actualNew.items().getFirst().getId());
+
+        this.gateway.deleteById(book.getId());
+        assertEquals(0, this.gateway.findAll(new SearchQuery(0, 10, "enterprise", "title", "asc")).total());
+    }
+
+    @Test
+    void givenABookWithLoans_whenCallsFindByIdWithLoans_thenShouldReturnLoanIds() {
+        // given
+        final var customer = Customer.with(Fixture.Customer.name(), Fixture.Customer.email());
+        this.customerGateway.create(customer);
+
+        final var book = this.gateway.create(Book.with(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn()));
+        final var loan = this.loanGateway.create(Loan.with(customer.getId(), book.getId()));
+
+        final var expectedId = book.getId();
+        final var expectedLoans = List.of(loan.getId());
+
+        // when
+        final var actualBook = this.gateway.findByIdWithLoans(expectedId).get();
+        final var actualSlimBook = this.gateway.findById(expectedId).get();
+
+        // then
+        assertEquals(expectedId, actualBook.getId());
+        assertEquals(expectedLoans, actualBook.getLoans());
+        assertTrue(actualSlimBook.getLoans().isEmpty());
+    }
+
     @Test
     void givenAValidIsbn_whenCallsFindByIsbn_thenShouldReturnIt() {
         // given
@@ -354,4 +530,22 @@ class BookH2GatewayTest {
         // then
         assertTrue(actualBook.isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenPrePersistedBooks_whenCallsFindAllByIds_thenShouldReturnOnlyExistingOnes() {
+        // given
+        final var first = Book.with(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn());
+        final var second = Book.with(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn());
+
+        this.gateway.create(first);
+        this.gateway.create(second);
+
+        // when
+        final var actualBooks = this.gateway.findAllByIds(List.of(first.getId(), second.getId(), first.getId(), Fixture.randomId()));
+
+        // then
+        assertEquals(2, actualBooks.size());
+        final var actualTitles = actualBooks.stream().map(Book::getTitle).toList();
+        assertTrue(actualTitles.containsAll(List.of(first.getTitle(), second.getTitle())));
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.gabrielmsouza.library.infrastructure.book;
+
+import io.github.gabrielmsouza.library.Fixture;
+import io.github.gabrielmsouza.library.domain.UnitTest;
+import io.github.gabrielmsouza.library.domain.book.Book;
+import io.github.gabrielmsouza.library.infrastructure.book.persistnce.BookRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachedBookGatewayTest extends UnitTest {
+    @Mock
+    private BookH2Gateway delegate;
+
+    @Mock
+    private BookRepository repository;
+
+    private CachedBookGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        final var meterRegistry = new SimpleMeterRegistry();
+        final var isbnFilter = new IsbnBloomFilter(this.repository, meterRegistry, 1_000, 0.01);
+        this.gateway = new CachedBookGateway(this.delegate, isbnFilter, meterRegistry, Duration.ofMinutes(1), DataSize.ofMegabytes(1));
+    }
+
+    @Test
+    void givenACachedBook_whenCallsFindByIdAndFindByIsbn_thenShouldNotHitTheDelegateAgain() {
+        // given
+        final var book = Book.with(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn());
+        final var expectedId = book.getId();
+
+        when(this.delegate.findById(expectedId)).thenReturn(Optional.of(book));
+
+        // when
+        final var actualFirst = this.gateway.findById(expectedId).get();
+        final var actualSecond = this.gateway.findById(expectedId).get();
+        final var actualByIsbn = this.gateway.findByIsbn(book.getIsbn()).get();
+
+        // then
+        assertEquals(expectedId, actualFirst.getId());
+        assertEquals(expectedId, actualSecond.getId());
+        assertEquals(expectedId, actualByIsbn.getId());
+        assertNotSame(actualFirst, actualSecond);
+        assertTrue(this.gateway.existsByIsbn(book.getIsbn()));
+
+        verify(this.delegate, times(1)).findById(expectedId);
+        verify(this.delegate, never()).findByIsbn(any());
+        verify(this.delegate, never()).existsByIsbn(any());
+    }
+
+    @Test
+    void givenAnUpdatedIsbn_whenCallsFindByIsbnWithThePreviousIsbn_thenShouldAskTheDelegate() {
+        // given
+        final var book = Book.with(Fixture.Book.title(), Fixture.Book.author(), "111");
+        final var updated = Book.with(book).update(book.getTitle(), book.getAuthor(), "222");
+
+        when(this.delegate.create(any())).thenReturn(book);
+        when(this.delegate.update(any())).thenReturn(updated);
+        when(this.delegate.findByIsbn("111")).thenReturn(Optional.empty());
+
+        this.gateway.create(book);
+
+        // when
+        this.gateway.update(updated);
+
+        // then
+        assertTrue(this.gateway.findByIsbn("111").isEmpty());
+        assertEquals("222", this.gateway.findByIsbn("222").get().getIsbn());
+        verify(this.delegate).findByIsbn("111");
+        verify(this.delegate, never()).findByIsbn("222");
+    }
+
+    @Test
+    void givenACachedBook_whenCallsDeleteById_thenShouldEvictIt() {
+        // given
+        final var book = Book.with(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn());
+        final var expectedId = book.getId();
+
+        when(this.delegate.create(any())).thenReturn(book);
+        when(this.delegate.findById(expectedId)).thenReturn(Optional.empty());
+
+        this.gateway.create(book);
+
+        // when
+        this.gateway.deleteById(expectedId);
+
+        // then
+        assertTrue(this.gateway.findById(expectedId).isEmpty());
+        verify(this.delegate).deleteById(expectedId);
+        verify(this.delegate).findById(expectedId);
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.gabrielmsouza.library.infrastructure.book;
+
+import io.github.gabrielmsouza.library.domain.UnitTest;
+import io.github.gabrielmsouza.library.infrastructure.book.persistnce.BookRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IsbnBloomFilterTest extends UnitTest {
+    @Mock
+    private BookRepository repository;
+
+    @Test
+    void givenAFilterNotBuiltYet_whenCallsMightContain_thenShouldFallBackToTheDatabase() {
+        // given
+        final var filter = new IsbnBloomFilter(this.repository, new SimpleMeterRegistry(), 1_000, 0.01);
+
+        // when
+        final var actualResult = filter.mightContain("978-0134494166");
+
+        // then
+        assertTrue(actualResult);
+    }
+
+    @Test
+    void givenABuiltFilter_whenCallsMightContain_thenShouldAnswerDefinitelyAbsentForUnknownIsbns() {
+        // given
+        final var meterRegistry = new SimpleMeterRegistry();
+        final var filter = new IsbnBloomFilter(this.repository, meterRegistry, 1_000, 0.01);
+
+        when(this.repository.findIsbnsAfter(eq(""), any())).thenReturn(List.of("978-0134494166", "978-0134757599"));
+
+        filter.rebuild();
+        filter.put("978-0321125217");
+
+        // when
+        final var actualKnown = filter.mightContain("978-0134494166");
+        final var actualAdded = filter.mightContain("978-0321125217");
+        final var actualUnknown = filter.mightContain("978-1617294945");
+
+        // then
+        assertTrue(actualKnown);
+        assertTrue(actualAdded);
+        assertFalse(actualUnknown);
+        assertTrue(filter.expectedFalsePositiveRate() < 0.01);
+        assertEquals(3, meterRegistry.get("books.isbn.filter.insertions").gauge().value());
+        assertTrue(meterRegistry.get("books.isbn.filter.memory").gauge().value() > 0);
+    }
+}
@@ -5,9 +5,13 @@ import io.github.gabrielmsouza.library.domain.customer.Customer;
 import io.github.gabrielmsouza.library.infrastructure.H2GatewayTest;
 import io.github.gabrielmsouza.library.infrastructure.customer.persistence.CustomerJpaEntity;
 import io.github.gabrielmsouza.library.infrastructure.customer.persistence.CustomerRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @H2GatewayTest
@@ -18,6 +22,9 @@ class CustomerH2GatewayTest {
     @Autowired
     private CustomerRepository repository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     void givenAValidCustomer_whenCallsCreate_thenShouldPersistIt() {
         // given
@@ -44,6 +51,22 @@ class CustomerH2GatewayTest {
         assertEquals(expectedEmail, persistedCustomer.getEmail());
     }
 
+    @Test
+    void givenANewCustomer_whenCallsCreate_thenShouldInsertWithoutSelectingFirst() {
+        // given
+        final var customer = Customer.with(Fixture.Customer.name(), Fixture.Customer.email());
+        final var statistics = this.entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        this.gateway.create(customer);
+        this.repository.flush();
+
+        // then
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
     @Test
     void givenAValidId_whenCallsFindById_thenShouldReturnIt() {
         // given
@@ -82,4 +105,29 @@ class CustomerH2GatewayTest {
         // then
         assertTrue(actualCustomer.isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenPrePersistedCustomers_whenCallsFindAllByIds_thenShouldReturnOnlyExistingOnes() {
+        // given
+        final var first = Customer.with(Fixture.Customer.name(), Fixture.Customer.email());
+        final var second = Customer.with(Fixture.Customer.name(), Fixture.Customer.email());
+        final var third = Customer.with(Fixture.Customer.name(), Fixture.Customer.email());
+
+        this.repository.saveAllAndFlush(List.of(
+                CustomerJpaEntity.from(first),
+                CustomerJpaEntity.from(second),
+                CustomerJpaEntity.from(third)
+        ));
+        assertEquals(3, this.repository.count());
+
+        final var ids = List.of(first.getId(), second.getId(), first.getId(), Fixture.randomId());
+
+        // when
+        final var actualCustomers = this.gateway.findAllByIds(ids);
+
+        // then
+        assertEquals(2, actualCustomers.size());
+        final var actualIds = actualCustomers.stream().map(Customer::getId).toList();
+        assertTrue(actualIds.containsAll(List.of(first.getId(), second.getId())));
+    }
+}
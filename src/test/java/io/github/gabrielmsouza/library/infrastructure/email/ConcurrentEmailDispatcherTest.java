@@ -0,0 +1,125 @@
+package io.github.gabrielmsouza.library.infrastructure.email;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.github.gabrielmsouza.library.Fixture;
+import io.github.gabrielmsouza.library.domain.UnitTest;
+import io.github.gabrielmsouza.library.domain.exceptions.InternalErrorException;
+import io.github.gabrielmsouza.library.domain.mail.DispatchSummary;
+import io.github.gabrielmsouza.library.domain.mail.EmailGateway;
+import io.github.gabrielmsouza.library.domain.mail.LateLoansDigest;
+import io.github.gabrielmsouza.library.infrastructure.configuration.properties.EmailDispatchProperties;
+import io.github.gabrielmsouza.library.infrastructure.configuration.properties.MailProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ConcurrentEmailDispatcherTest extends UnitTest {
+    @RegisterExtension
+    static final GreenMailExtension SMTP = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Test
+    void givenDigests_whenCallsDispatch_thenShouldDeliverAllOfThemThroughSmtp() throws Exception {
+        // given
+        final var expectedMessages = 20;
+        final var digests = IntStream.range(0, expectedMessages)
+                .mapToObj(i -> LateLoansDigest.with(Fixture.Customer.email(), Fixture.Customer.name(), List.of(Fixture.Book.title())))
+                .toList();
+
+        final var mailSender = new JavaMailSenderImpl();
+        mailSender.setHost(SMTP.getSmtp().getBindTo());
+        mailSender.setPort(SMTP.getSmtp().getPort());
+
+        final var mailProps = new MailProperties();
+        mailProps.from("mail@library-api.com");
+
+        final var dispatcher = new ConcurrentEmailDispatcher(
+                new MailTrapGateway(mailSender, mailProps),
+                dispatchProperties(4, 1_000, 50)
+        );
+
+        // when
+        final var actualSummary = dispatcher.dispatch(digests);
+
+        // then
+        assertEquals(DispatchSummary.with(expectedMessages, 0, 0), actualSummary);
+        assertTrue(SMTP.waitForIncomingEmail(5_000, expectedMessages));
+
+        final var received = SMTP.getReceivedMessages();
+        assertEquals(expectedMessages, received.length);
+        assertEquals("Books with overdue loans", received[0].getSubject());
+    }
+
+    @Test
+    void givenAFailingSend_whenCallsDispatch_thenShouldCountItAsFailed() {
+        // given
+        final var gateway = mock(EmailGateway.class);
+        final var ok = LateLoansDigest.with("ok@library-api.com", Fixture.Customer.name(), List.of(Fixture.Book.title()));
+        final var failing = LateLoansDigest.with("failing@library-api.com", Fixture.Customer.name(), List.of(Fixture.Book.title()));
+
+        doThrow(InternalErrorException.with("Error observed from email sender", new RuntimeException()))
+                .when(gateway).send(failing);
+
+        final var dispatcher = new ConcurrentEmailDispatcher(gateway, dispatchProperties(2, 1_000, 10));
+
+        // when
+        final var actualSummary = dispatcher.dispatch(List.of(ok, failing));
+
+        // then
+        assertEquals(DispatchSummary.with(1, 1, 0), actualSummary);
+        verify(gateway, times(2)).send(any(LateLoansDigest.class));
+    }
+
+    @Test
+    void givenSlowSends_whenCallsDispatch_thenShouldNeverExceedMaxConcurrency() {
+        // given
+        final var expectedMaxConcurrency = 2;
+        final var inFlight = new AtomicInteger();
+        final var actualMaxInFlight = new AtomicInteger();
+
+        final var gateway = mock(EmailGateway.class);
+        doAnswer(invocation -> {
+            actualMaxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(Duration.ofMillis(50));
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            return null;
+        }).when(gateway).send(any(LateLoansDigest.class));
+
+        final var digests = IntStream.range(0, 10)
+                .mapToObj(i -> LateLoansDigest.with(Fixture.Customer.email(), Fixture.Customer.name(), List.of(Fixture.Book.title())))
+                .toList();
+
+        final var dispatcher = new ConcurrentEmailDispatcher(gateway, dispatchProperties(expectedMaxConcurrency, 1_000, 10));
+
+        // when
+        final var actualSummary = dispatcher.dispatch(digests);
+
+        // then
+        assertEquals(DispatchSummary.with(10, 0, 0), actualSummary);
+        assertTrue(actualMaxInFlight.get() <= expectedMaxConcurrency);
+    }
+
+    private static EmailDispatchProperties dispatchProperties(
+            final int maxConcurrency,
+            final double permitsPerSecond,
+            final int burst
+    ) {
+        final var props = new EmailDispatchProperties();
+        props.setMaxConcurrency(maxConcurrency);
+        props.setPermitsPerSecond(permitsPerSecond);
+        props.setBurst(burst);
+        return props;
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.gabrielmsouza.library.infrastructure.email;
+
+import io.github.gabrielmsouza.library.Fixture;
+import io.github.gabrielmsouza.library.domain.mail.LateLoansDigest;
+import io.github.gabrielmsouza.library.infrastructure.H2GatewayTest;
+import io.github.gabrielmsouza.library.infrastructure.email.persistence.EmailOutboxJpaEntity;
+import io.github.gabrielmsouza.library.infrastructure.email.persistence.EmailOutboxRepository;
+import io.github.gabrielmsouza.library.infrastructure.email.persistence.OutboxStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@H2GatewayTest
+class EmailOutboxH2GatewayTest {
+    @Autowired
+    private EmailOutboxH2Gateway gateway;
+
+    @Autowired
+    private EmailOutboxRepository repository;
+
+    @Test
+    void givenDigests_whenCallsEnqueue_thenShouldPersistThemAsPending() {
+        // given
+        final var expectedTitles = List.of(Fixture.Book.title(), Fixture.Book.title());
+        final var digest = LateLoansDigest.with(Fixture.Customer.email(), Fixture.Customer.name(), expectedTitles);
+        final var other = LateLoansDigest.with(Fixture.Customer.email(), Fixture.Customer.name(), List.of(Fixture.Book.title()));
+
+        assertEquals(0, this.repository.count());
+
+        // when
+        this.gateway.enqueue(List.of(digest, other));
+
+        // then
+        assertEquals(2, this.repository.count());
+
+        assertEquals(2, this.repository.findDueIds(Instant.now(), PageRequest.of(0, 10)).size());
+
+        final var due = this.repository.findAll();
+        assertTrue(due.stream().allMatch(row -> row.getStatus() == OutboxStatus.PENDING && row.getAttempts() == 0));
+
+        final var actualDigest = due.stream()
+                .map(EmailOutboxJpaEntity::toDigest)
+                .filter(it -> it.email().equals(digest.email()))
+                .findFirst()
+                .get();
+        assertEquals(digest, actualDigest);
+    }
+}
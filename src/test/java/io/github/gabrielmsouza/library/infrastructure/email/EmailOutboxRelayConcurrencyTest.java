@@ -0,0 +1,105 @@
+package io.github.gabrielmsouza.library.infrastructure.email;
+
+import io.github.gabrielmsouza.library.Fixture;
+import io.github.gabrielmsouza.library.domain.mail.EmailGateway;
+import io.github.gabrielmsouza.library.domain.mail.LateLoansDigest;
+import io.github.gabrielmsouza.library.infrastructure.H2GatewayTest;
+import io.github.gabrielmsouza.library.infrastructure.configuration.properties.EmailDispatchProperties;
+import io.github.gabrielmsouza.library.infrastructure.configuration.properties.EmailOutboxProperties;
+import io.github.gabrielmsouza.library.infrastructure.email.persistence.EmailOutboxRepository;
+import io.github.gabrielmsouza.library.infrastructure.email.persistence.OutboxStatus;
+import io.github.gabrielmsouza.library.infrastructure.job.SchedulerLock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+@H2GatewayTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmailOutboxRelayConcurrencyTest {
+    @Autowired
+    private EmailOutboxH2Gateway gateway;
+
+    @Autowired
+    private EmailOutboxRepository repository;
+
+    @Test
+    void givenTwoOverlappingDrains_whenBothRelayTheSameRows_thenShouldSendEachMessageOnce() throws Exception {
+        // given
+        final var expectedMessages = 40;
+        final var digests = IntStream.range(0, expectedMessages)
+                .mapToObj(i -> LateLoansDigest.with("customer-%d@library-api.com".formatted(i), Fixture.Customer.name(), List.of(Fixture.Book.title())))
+                .toList();
+        this.gateway.enqueue(digests);
+
+        final Map<String, AtomicInteger> sendsByRecipient = new ConcurrentHashMap<>();
+        final var mailGateway = mock(EmailGateway.class);
+        doAnswer(invocation -> {
+            final LateLoansDigest digest = invocation.getArgument(0);
+            sendsByRecipient.computeIfAbsent(digest.email(), it -> new AtomicInteger()).incrementAndGet();
+            Thread.sleep(Duration.ofMillis(10));
+            return null;
+        }).when(mailGateway).send(any(LateLoansDigest.class));
+
+        final var first = relay(mailGateway);
+        final var second = relay(mailGateway);
+        final var start = new CountDownLatch(1);
+
+        // when
+        try (final var executor = Executors.newFixedThreadPool(2)) {
+            final var drains = List.of(
+                    executor.submit(() -> drainAfter(start, first)),
+                    executor.submit(() -> drainAfter(start, second))
+            );
+            start.countDown();
+            for (final var drain : drains) {
+                drain.get();
+            }
+        }
+
+        // then
+        assertEquals(expectedMessages, sendsByRecipient.size());
+        assertTrue(sendsByRecipient.values().stream().allMatch(sends -> sends.get() == 1));
+        assertEquals(expectedMessages, this.repository.countByStatus(OutboxStatus.SENT));
+        assertEquals(0, this.repository.countByStatus(OutboxStatus.SENDING));
+    }
+
+    private EmailOutboxRelay relay(final EmailGateway mailGateway) {
+        final var dispatchProps = new EmailDispatchProperties();
+        dispatchProps.setMaxConcurrency(4);
+        dispatchProps.setPermitsPerSecond(1_000);
+        dispatchProps.setBurst(100);
+
+        final var outboxProps = new EmailOutboxProperties();
+        outboxProps.setBatchSize(5);
+
+        return new EmailOutboxRelay(
+                this.repository,
+                new ConcurrentEmailDispatcher(mailGateway, dispatchProps),
+                outboxProps,
+                mock(SchedulerLock.class),
+                new SimpleMeterRegistry()
+        );
+    }
+
+    private static Void drainAfter(final CountDownLatch start, final EmailOutboxRelay relay) throws InterruptedException {
+        start.await();
+        relay.drain();
+        return null;
+    }
+}
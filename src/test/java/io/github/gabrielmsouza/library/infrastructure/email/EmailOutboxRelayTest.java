@@ -0,0 +1,152 @@
+package io.github.gabrielmsouza.library.infrastructure.email;
+
+import io.github.gabrielmsouza.library.Fixture;
+import io.github.gabrielmsouza.library.domain.UnitTest;
+import io.github.gabrielmsouza.library.domain.exceptions.InternalErrorException;
+import io.github.gabrielmsouza.library.domain.mail.DispatchSummary;
+import io.github.gabrielmsouza.library.domain.mail.EmailDispatcher;
+import io.github.gabrielmsouza.library.domain.mail.EmailGateway;
+import io.github.gabrielmsouza.library.domain.mail.LateLoansDigest;
+import io.github.gabrielmsouza.library.infrastructure.configuration.properties.EmailDispatchProperties;
+import io.github.gabrielmsouza.library.infrastructure.configuration.properties.EmailOutboxProperties;
+import io.github.gabrielmsouza.library.infrastructure.email.persistence.EmailOutboxJpaEntity;
+import io.github.gabrielmsouza.library.infrastructure.email.persistence.EmailOutboxRepository;
+import io.github.gabrielmsouza.library.infrastructure.email.persistence.OutboxStatus;
+import io.github.gabrielmsouza.library.infrastructure.job.SchedulerLock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class EmailOutboxRelayTest extends UnitTest {
+    private EmailOutboxRepository repository;
+    private EmailGateway mailGateway;
+    private EmailOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        this.repository = mock(EmailOutboxRepository.class);
+        this.mailGateway = mock(EmailGateway.class);
+
+        final var dispatchProps = new EmailDispatchProperties();
+        dispatchProps.setPermitsPerSecond(1_000);
+        dispatchProps.setBurst(100);
+
+        final var outboxProps = new EmailOutboxProperties();
+        outboxProps.setMaxAttempts(2);
+        outboxProps.setInitialBackoff(Duration.ofMinutes(1));
+        outboxProps.setMaxBackoff(Duration.ofMinutes(10));
+
+        this.relay = new EmailOutboxRelay(
+                this.repository,
+                new ConcurrentEmailDispatcher(this.mailGateway, dispatchProps),
+                outboxProps,
+                mock(SchedulerLock.class),
+                new SimpleMeterRegistry()
+        );
+    }
+
+    @Test
+    void givenDueMessages_whenCallsDeliver_thenShouldMarkSentAndScheduleRetries() {
+        // given
+        final var ok = row("ok@library-api.com");
+        final var failing = row("failing@library-api.com");
+
+        doThrow(InternalErrorException.with("Error observed from email sender"))
+                .when(this.mailGateway).send(failing.toDigest());
+
+        final var before = Instant.now();
+
+        // when
+        final var actualSummary = this.relay.deliver(List.of(ok, failing));
+
+        // then
+        assertEquals(DispatchSummary.with(1, 1, 0), actualSummary);
+        verify(this.repository).save(ok);
+        verify(this.repository).save(failing);
+
+        assertEquals(OutboxStatus.SENT, ok.getStatus());
+        assertNotNull(ok.getSentAt());
+
+        assertEquals(OutboxStatus.PENDING, failing.getStatus());
+        assertNull(failing.getClaimToken());
+        assertEquals(1, failing.getAttempts());
+        assertEquals("Error observed from email sender", failing.getLastError());
+        assertFalse(failing.getNextAttemptAt().isBefore(before.plus(Duration.ofMinutes(1))));
+    }
+
+    @Test
+    void givenAMessageFailingOnItsLastAttempt_whenCallsDeliver_thenShouldMoveItToDeadLetter() {
+        // given
+        final var failing = row("failing@library-api.com");
+        doThrow(InternalErrorException.with("Error observed from email sender"))
+                .when(this.mailGateway).send(any(LateLoansDigest.class));
+
+        // when
+        this.relay.deliver(List.of(failing));
+        this.relay.deliver(List.of(failing));
+
+        // then
+        assertEquals(OutboxStatus.DEAD, failing.getStatus());
+        assertEquals(2, failing.getAttempts());
+        verify(this.mailGateway, times(2)).send(any(LateLoansDigest.class));
+    }
+
+    @Test
+    void givenAnOutboxThatNeverEmpties_whenCallsDrain_thenShouldStopBeforeTheLockExpires() {
+        // given
+        final var outboxProps = new EmailOutboxProperties();
+        outboxProps.setBatchSize(2);
+        outboxProps.setClaimTimeout(Duration.ofMinutes(1));
+        outboxProps.setLockAtMostFor(Duration.ofMinutes(1).plusMillis(200));
+
+        final var relay = new EmailOutboxRelay(
+                this.repository,
+                mock(EmailDispatcher.class),
+                outboxProps,
+                mock(SchedulerLock.class),
+                new SimpleMeterRegistry()
+        );
+
+        when(this.repository.findDueIds(any(), any())).thenReturn(List.of("1", "2"));
+        when(this.repository.claim(any(), any(), any(), any())).thenReturn(0);
+
+        // when
+        assertTimeoutPreemptively(Duration.ofSeconds(5), relay::drain);
+
+        // then
+        verify(this.repository, atLeastOnce()).findDueIds(any(), any());
+    }
+
+    @Test
+    void givenAClaimTimeoutAsLongAsTheLock_whenCreatesTheRelay_thenShouldThrowIllegalArgumentException() {
+        // given
+        final var outboxProps = new EmailOutboxProperties();
+        outboxProps.setClaimTimeout(Duration.ofMinutes(10));
+        outboxProps.setLockAtMostFor(Duration.ofMinutes(10));
+
+        // when
+        final var actualException = assertThrows(IllegalArgumentException.class, () -> new EmailOutboxRelay(
+                this.repository,
+                mock(EmailDispatcher.class),
+                outboxProps,
+                mock(SchedulerLock.class),
+                new SimpleMeterRegistry()
+        ));
+
+        // then
+        assertEquals("'mail.outbox.claim-timeout' must be shorter than 'mail.outbox.lock-at-most-for'", actualException.getMessage());
+    }
+
+    private static EmailOutboxJpaEntity row(final String email) {
+        final var digest = LateLoansDigest.with(email, Fixture.Customer.name(), List.of(Fixture.Book.title()));
+        return EmailOutboxJpaEntity.from(digest, Instant.now());
+    }
+}
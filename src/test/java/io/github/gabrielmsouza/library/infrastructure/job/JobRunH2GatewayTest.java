@@ -0,0 +1,108 @@
+package io.github.gabrielmsouza.library.infrastructure.job;
+
+import io.github.gabrielmsouza.library.Fixture;
+import io.github.gabrielmsouza.library.domain.job.JobRun;
+import io.github.gabrielmsouza.library.domain.job.JobRunStatus;
+import io.github.gabrielmsouza.library.domain.loan.LoanKey;
+import io.github.gabrielmsouza.library.infrastructure.H2GatewayTest;
+import io.github.gabrielmsouza.library.infrastructure.job.persistence.JobRunRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@H2GatewayTest
+class JobRunH2GatewayTest {
+    private static final String JOB_NAME = "notify-late-loans";
+
+    @Autowired
+    private JobRunH2Gateway gateway;
+
+    @Autowired
+    private JobRunRepository repository;
+
+    @Test
+    void givenACheckpointedRun_whenCallsFindRunning_thenShouldResumeFromItsCheckpoint() {
+        // given
+        final var expectedRunDate = LocalDate.now();
+        final var expectedCheckpoint = new LoanKey(Fixture.randomId(), Fixture.randomId());
+
+        final var run = this.gateway.create(JobRun.start(JOB_NAME, expectedRunDate));
+        run.checkpoint(expectedCheckpoint, 500, 120, 3);
+        this.gateway.update(run);
+
+        // when
+        final var actualRun = this.gateway.findRunning(JOB_NAME).get();
+
+        // then
+        assertEquals(run.getId(), actualRun.getId());
+        assertEquals(expectedRunDate, actualRun.getRunDate());
+        assertEquals(expectedCheckpoint, actualRun.getCheckpoint());
+        assertEquals(500, actualRun.getProcessed());
+        assertEquals(120, actualRun.getQueued());
+        assertEquals(3, actualRun.getSkipped());
+        assertEquals(JobRunStatus.RUNNING, actualRun.getStatus());
+    }
+
+    @Test
+    void givenACompletedRun_whenCallsFindRunning_thenShouldReturnEmpty() {
+        // given
+        final var run = this.gateway.create(JobRun.start(JOB_NAME, LocalDate.now()));
+        run.complete();
+        this.gateway.update(run);
+
+        assertEquals(1, this.repository.count());
+
+        // when
+        final var actualRun = this.gateway.findRunning(JOB_NAME);
+
+        // then
+        assertTrue(actualRun.isEmpty());
+    }
+
+    @Test
+    void givenARunUpdatedByAnotherExecutor_whenCallsUpdateWithAStaleCopy_thenShouldThrowOptimisticLockingFailure() {
+        // given
+        final var run = this.gateway.create(JobRun.start(JOB_NAME, LocalDate.now()));
+        final var staleRun = this.gateway.findRunning(JOB_NAME).get();
+
+        run.checkpoint(new LoanKey(Fixture.randomId(), Fixture.randomId()), 500, 120, 3);
+        this.gateway.update(run);
+
+        staleRun.checkpoint(new LoanKey(Fixture.randomId(), Fixture.randomId()), 500, 120, 3);
+
+        // when
+        assertThrows(OptimisticLockingFailureException.class, () -> this.gateway.update(staleRun));
+    }
+
+    @Test
+    void givenARunForToday_whenCallsCreateForTheSameDay_thenShouldThrowDataIntegrityViolation() {
+        // given
+        final var runDate = LocalDate.now();
+        this.gateway.create(JobRun.start(JOB_NAME, runDate));
+
+        // when
+        assertThrows(DataIntegrityViolationException.class, () -> this.gateway.create(JobRun.start(JOB_NAME, runDate)));
+    }
+
+    @Test
+    void givenACompletedRun_whenCallsFindByRunDate_thenShouldReturnIt() {
+        // given
+        final var runDate = LocalDate.now();
+        final var run = this.gateway.create(JobRun.start(JOB_NAME, runDate));
+        run.complete();
+        this.gateway.update(run);
+
+        // when
+        final var actualRun = this.gateway.findByRunDate(JOB_NAME, runDate).get();
+
+        // then
+        assertEquals(run.getId(), actualRun.getId());
+        assertTrue(actualRun.isCompleted());
+        assertTrue(this.gateway.findByRunDate(JOB_NAME, runDate.minusDays(1)).isEmpty());
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.gabrielmsouza.library.infrastructure.job;
+
+import io.github.gabrielmsouza.library.Fixture;
+import io.github.gabrielmsouza.library.domain.book.Book;
+import io.github.gabrielmsouza.library.domain.book.BookGateway;
+import io.github.gabrielmsouza.library.domain.customer.Customer;
+import io.github.gabrielmsouza.library.domain.customer.CustomerGateway;
+import io.github.gabrielmsouza.library.domain.identity.Identifiers;
+import io.github.gabrielmsouza.library.domain.loan.Loan;
+import io.github.gabrielmsouza.library.domain.loan.LoanGateway;
+import io.github.gabrielmsouza.library.infrastructure.configuration.WebServerConfiguration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("integrationTest")
+class NotifyLateLoansJobClusterTest {
+
+    @Test
+    void givenTwoNodesSharingOneDatabase_whenBothFireTheJob_thenShouldQueueOneDigestPerCustomer() throws Exception {
+        // given
+        final var url = "jdbc:h2:mem:library_cluster_%s;MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"
+                .formatted(Identifiers.next());
+
+        try (final var first = node(url); final var second = node(url)) {
+            final var expectedRecipients = givenLateLoans(first, 20);
+
+            final var jobs = List.of(first.getBean(NotifyLateLoansJob.class), second.getBean(NotifyLateLoansJob.class));
+            final var start = new CountDownLatch(1);
+
+            // when
+            try (final var executor = Executors.newFixedThreadPool(jobs.size())) {
+                final var runs = jobs.stream()
+                        .map(job -> executor.submit(() -> {
+                            start.await();
+                            job.send();
+                            return null;
+                        }))
+                        .toList();
+                start.countDown();
+                for (final var run : runs) {
+                    run.get();
+                }
+            }
+
+            // then
+            final var jdbcTemplate = first.getBean(JdbcTemplate.class);
+            final var actualRecipients = jdbcTemplate.queryForList("SELECT recipient FROM email_outbox", String.class);
+            assertEquals(expectedRecipients.size(), actualRecipients.size());
+            assertEquals(expectedRecipients, actualRecipients.stream().sorted().toList());
+        }
+    }
+
+    private static ConfigurableApplicationContext node(final String url) {
+        return new SpringApplicationBuilder(WebServerConfiguration.class)
+                .profiles("test-integration")
+                .run(
+                        "--spring.datasource.url=" + url,
+                        "--server.port=0",
+                        // keeps the relay from sending the queued digests while the test counts them
+                        "--mail.outbox.poll-interval=PT1H"
+                );
+    }
+
+    private static List<String> givenLateLoans(final ConfigurableApplicationContext context, final int customers) {
+        final var customerGateway = context.getBean(CustomerGateway.class);
+        final var bookGateway = context.getBean(BookGateway.class);
+        final var loanGateway = context.getBean(LoanGateway.class);
+
+        final var loanDate = Instant.now().minus(Duration.ofDays(5));
+        return IntStream.range(0, customers)
+                .mapToObj(i -> {
+                    final var customer = customerGateway.create(
+                            Customer.with(Fixture.Customer.name(), "customer-%02d@library-api.com".formatted(i))
+                    );
+                    final var book = bookGateway.create(Book.with(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn()));
+                    loanGateway.create(Loan.with(
+                            Identifiers.next(),
+                            customer.getId(),
+                            book.getId(),
+                            loanDate,
+                            loanDate.plus(Duration.ofDays(4)),
+                            null,
+                            false
+                    ));
+                    return customer.getEmail();
+                })
+                .sorted()
+                .toList();
+    }
+}
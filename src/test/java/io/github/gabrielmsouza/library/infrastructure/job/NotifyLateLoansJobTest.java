@@ -0,0 +1,93 @@
+package io.github.gabrielmsouza.library.infrastructure.job;
+
+import io.github.gabrielmsouza.library.Fixture;
+import io.github.gabrielmsouza.library.application.loan.NotifyLateLoansUseCase;
+import io.github.gabrielmsouza.library.domain.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class NotifyLateLoansJobTest extends UnitTest {
+    private NotifyLateLoansUseCase useCase;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        this.useCase = mock(NotifyLateLoansUseCase.class);
+        this.transactionTemplate = mock(TransactionTemplate.class);
+        when(this.transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null)
+        );
+    }
+
+    @Test
+    void givenARunThatOutlastsTheLock_whenCallsRun_thenShouldStopBeforeTheLockExpires() {
+        // given
+        final var output = new NotifyLateLoansUseCase.Output(Fixture.randomId(), LocalDate.now(), 10, 1, 0, false);
+        when(this.useCase.execute()).thenAnswer(invocation -> {
+            Thread.sleep(Duration.ofMillis(50));
+            return output;
+        });
+
+        final var job = job(Duration.ofSeconds(1), Duration.ofMillis(900));
+
+        // when
+        job.run();
+
+        // then
+        verify(this.useCase, atMost(3)).execute();
+    }
+
+    @Test
+    void givenARunThatCompletes_whenCallsRun_thenShouldProcessEveryChunk() {
+        // given
+        final var runId = Fixture.randomId();
+        when(this.useCase.execute()).thenReturn(
+                new NotifyLateLoansUseCase.Output(runId, LocalDate.now(), 10, 1, 0, false),
+                new NotifyLateLoansUseCase.Output(runId, LocalDate.now(), 10, 1, 0, false),
+                new NotifyLateLoansUseCase.Output(runId, LocalDate.now(), 5, 1, 0, true)
+        );
+
+        final var job = job(Duration.ofHours(2), Duration.ofMinutes(5));
+
+        // when
+        job.run();
+
+        // then
+        verify(this.useCase, times(3)).execute();
+    }
+
+    @Test
+    void givenAChunkTimeoutLongerThanTheLock_whenCreatesTheJob_thenShouldThrowIllegalArgumentException() {
+        // when
+        final var actualException = assertThrows(
+                IllegalArgumentException.class,
+                () -> job(Duration.ofMinutes(5), Duration.ofMinutes(5))
+        );
+
+        // then
+        assertEquals(
+                "'jobs.notify-late-loans.chunk-timeout' must be shorter than 'jobs.notify-late-loans.lock-at-most-for'",
+                actualException.getMessage()
+        );
+    }
+
+    private NotifyLateLoansJob job(final Duration lockAtMostFor, final Duration chunkTimeout) {
+        return new NotifyLateLoansJob(
+                this.useCase,
+                this.transactionTemplate,
+                mock(SchedulerLock.class),
+                lockAtMostFor,
+                Duration.ZERO,
+                chunkTimeout
+        );
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.gabrielmsouza.library.infrastructure.job;
+
+import io.github.gabrielmsouza.library.infrastructure.H2GatewayTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@H2GatewayTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SchedulerLockTest {
+    private static final String LOCK_NAME = "test-lock";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        this.jdbcTemplate = new JdbcTemplate(this.dataSource);
+        this.jdbcTemplate.update("DELETE FROM scheduler_locks");
+    }
+
+    @Test
+    void givenTwoNodes_whenBothCallRunExclusively_thenShouldRunTheTaskOnlyOnce() {
+        // given
+        final var clock = Clock.fixed(Instant.now(), ZoneOffset.UTC);
+        final var first = node("node-1", clock);
+        final var second = node("node-2", clock);
+        final var executions = new AtomicInteger();
+
+        // when
+        final var firstRan = first.runExclusively(LOCK_NAME, Duration.ofMinutes(10), Duration.ofMinutes(5), executions::incrementAndGet);
+        final var secondRan = second.runExclusively(LOCK_NAME, Duration.ofMinutes(10), Duration.ofMinutes(5), executions::incrementAndGet);
+
+        // then
+        assertTrue(firstRan);
+        assertFalse(secondRan);
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void givenAnExpiredLease_whenAnotherNodeCallsRunExclusively_thenShouldTakeOverTheLock() {
+        // given
+        final var now = Instant.now();
+        final var first = node("node-1", Clock.fixed(now, ZoneOffset.UTC));
+        final var second = node("node-2", Clock.fixed(now.plus(Duration.ofMinutes(11)), ZoneOffset.UTC));
+
+        assertTrue(first.tryAcquire(LOCK_NAME, Duration.ofMinutes(10)));
+
+        // when
+        final var actualResult = second.runExclusively(LOCK_NAME, Duration.ofMinutes(10), Duration.ZERO, () -> {});
+
+        // then
+        assertTrue(actualResult);
+        assertEquals("node-2", this.jdbcTemplate.queryForObject(
+                "SELECT locked_by FROM scheduler_locks WHERE name = ?", String.class, LOCK_NAME));
+    }
+
+    @Test
+    void givenManyNodes_whenTheyRaceForTheLock_thenShouldGrantItToExactlyOne() throws Exception {
+        // given
+        final var clock = Clock.systemUTC();
+        final var nodes = IntStream.range(0, 8).mapToObj(i -> node("node-" + i, clock)).toList();
+
+        // when
+        final var winners = new AtomicInteger();
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final var attempts = nodes.stream()
+                    .map(node -> (Callable<Boolean>) () -> node.tryAcquire(LOCK_NAME, Duration.ofMinutes(10)))
+                    .toList();
+            for (final var result : executor.invokeAll(attempts)) {
+                if (result.get()) {
+                    winners.incrementAndGet();
+                }
+            }
+        }
+
+        // then
+        assertEquals(1, winners.get());
+    }
+
+    private SchedulerLock node(final String owner, final Clock clock) {
+        return new SchedulerLock(this.jdbcTemplate, this.transactionManager, clock, owner);
+    }
+}
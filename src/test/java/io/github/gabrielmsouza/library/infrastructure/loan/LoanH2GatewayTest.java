@@ -4,9 +4,13 @@ import io.github.gabrielmsouza.library.Fixture;
 import io.github.gabrielmsouza.library.domain.book.Book;
 import io.github.gabrielmsouza.library.domain.book.BookGateway;
 import io.github.gabrielmsouza.library.domain.customer.Customer;
+import io.github.gabrielmsouza.library.domain.exceptions.NotificationException;
+import io.github.gabrielmsouza.library.domain.identity.Identifiers;
 import io.github.gabrielmsouza.library.domain.loan.Loan;
 import io.github.gabrielmsouza.library.domain.loan.LoanGateway;
+import io.github.gabrielmsouza.library.domain.loan.LoanKey;
 import io.github.gabrielmsouza.library.domain.loan.LoanSearchQuery;
+import io.github.gabrielmsouza.library.domain.loan.ReminderSchedule;
 import io.github.gabrielmsouza.library.domain.pagination.SearchQuery;
 import io.github.gabrielmsouza.library.infrastructure.H2GatewayTest;
 import io.github.gabrielmsouza.library.infrastructure.book.BookH2Gateway;
@@ -16,7 +20,13 @@ import io.github.gabrielmsouza.library.infrastructure.loan.persistence.LoanRepos
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -65,12 +75,36 @@ class LoanH2GatewayTest {
 
         final var persistedLoan = this.repository.findById(expectedId).get();
         assertEquals(expectedId, persistedLoan.getId());
-        assertEquals(expectedBookId, persistedLoan.getBook().getId());
-        assertEquals(expectedCustomerId, persistedLoan.getCustomer().getId());
+        assertEquals(expectedBookId, persistedLoan.getBookId());
+        assertEquals(expectedCustomerId, persistedLoan.getCustomerId());
         assertEquals(actualLoan.getLoanDate(), persistedLoan.getLoanDate());
+        assertEquals(actualLoan.getDueDate(), persistedLoan.getDueDate());
         assertEquals(actualLoan.isReturned(), persistedLoan.isReturned());
     }
 
+    @Test
+    void givenABookAlreadyOnLoan_whenCallsCreate_thenShouldThrowNotificationException() {
+        // given
+        final var customer = Customer.with(Fixture.Customer.name(), Fixture.Customer.email());
+        this.customerGateway.create(customer);
+
+        final var book = Book.with(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn());
+        this.bookGateway.create(book);
+
+        final var expectedBookId = book.getId();
+        final var expectedErrorMessage = "Book with ID %s is already on loan".formatted(expectedBookId);
+
+        this.gateway.create(Loan.with(customer.getId(), expectedBookId));
+        final var secondLoan = Loan.with(customer.getId(), expectedBookId);
+
+        // when
+        final var actualException = assertThrows(NotificationException.class, () -> this.gateway.create(secondLoan));
+
+        // then
+        assertEquals(1, actualException.getErrors().size());
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
     @Test
     void givenAPrePersistedLoanedBookAndNotReturnedYet_whenCallsExistsByBookIdAndNotReturned_thenShouldReturnTrue() {
         // given
@@ -211,12 +245,42 @@ class LoanH2GatewayTest {
 
         final var persistedLoan = this.repository.findById(expectedId).get();
         assertEquals(expectedId, persistedLoan.getId());
-        assertEquals(expectedBookId, persistedLoan.getBook().getId());
-        assertEquals(expectedCustomerId, persistedLoan.getCustomer().getId());
+        assertEquals(expectedBookId, persistedLoan.getBookId());
+        assertEquals(expectedCustomerId, persistedLoan.getCustomerId());
         assertEquals(actualLoan.getLoanDate(), persistedLoan.getLoanDate());
         assertEquals(actualLoan.isReturned(), persistedLoan.isReturned());
     }
 
+    @Test
+    void givenAnOpenLoan_whenCallsMarkReturnedTwice_thenShouldUpdateOnlyOnceAndReleaseTheBook() {
+        // given
+        final var customer = Customer.with(Fixture.Customer.name(), Fixture.Customer.email());
+        this.customerGateway.create(customer);
+
+        final var book = Book.with(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn());
+        this.bookGateway.create(book);
+
+        final var loan = this.gateway.create(Loan.with(customer.getId(), book.getId()));
+        final var expectedReturnDate = Instant.now().truncatedTo(ChronoUnit.MICROS);
+
+        assertTrue(this.gateway.existsByBookIdAndNotReturned(book.getId()));
+
+        // when
+        final var firstReturn = this.gateway.markReturned(loan.getId(), expectedReturnDate);
+        final var secondReturn = this.gateway.markReturned(loan.getId(), Instant.now());
+
+        // then
+        assertTrue(firstReturn);
+        assertFalse(secondReturn);
+        assertFalse(this.gateway.markReturned(Fixture.randomId(), Instant.now()));
+
+        final var persistedLoan = this.repository.findById(loan.getId()).get();
+        assertTrue(persistedLoan.isReturned());
+        assertEquals(expectedReturnDate, persistedLoan.getReturnDate());
+        assertNull(persistedLoan.getActiveBookId());
+        assertFalse(this.gateway.existsByBookIdAndNotReturned(book.getId()));
+    }
+
     @Test
     void givenAPrePersistedLoans_whenCallsFindAll_thenShouldReturnThem() {
         // given
@@ -323,4 +387,191 @@ class LoanH2GatewayTest {
         assertEquals(expectedTotal, actualResult.total());
         assertEquals(0, actualResult.items().size());
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenFollowCursor_whenCallsFindAllWithNextCursor_thenShouldWalkEveryLoanOnce() {
+        // given
+        final var customer = Customer.with(Fixture.Customer.name(), Fixture.Customer.email());
+        this.customerGateway.create(customer);
+
+        final var expectedCustomerId = customer.getId();
+        final var sharedLoanDate = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+        final var expectedIds = new ArrayList<String>();
+        for (int i = 0; i < 5; i++) {
+            final var book = Book.with(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn());
+            this.bookGateway.create(book);
+
+            // three loans share the same loanDate, so the seek has to break the tie by id
+            final var loanDate = i < 3 ? sharedLoanDate : sharedLoanDate.plusSeconds(i);
+            final var loan = Loan.with(Identifiers.next(), expectedCustomerId, book.getId(), loanDate, loanDate.plus(Loan.DEFAULT_LOAN_PERIOD), null, false);
+            this.repository.saveAndFlush(LoanJpaEntity.from(loan));
+            expectedIds.add(loan.getId());
+        }
+        assertEquals(5, this.repository.count());
+
+        final var expectedPerPage = 2;
+
+        // when
+        final var actualIds = new ArrayList<String>();
+        var actualPages = 0;
+        String cursor = null;
+        do {
+            final var query = new LoanSearchQuery(0, expectedPerPage, "", expectedCustomerId, "loanDate", "asc", cursor, true);
+            final var actualResult = this.gateway.findAll(query);
+            actualResult.items().forEach(loan -> actualIds.add(loan.getId()));
+            cursor = actualResult.nextCursor();
+            actualPages++;
+        } while (cursor != null && actualPages < 10);
+
+        // then
+        assertEquals(3, actualPages);
+        assertEquals(expectedIds.size(), actualIds.size());
+        assertEquals(Set.copyOf(expectedIds), Set.copyOf(actualIds));
+    }
+
+    @Test
+    void givenABatchOfLoans_whenCallsCreateAllAndMarkAllReturned_thenShouldPersistAndReturnThem() {
+        // given
+        final var customer = Customer.with(Fixture.Customer.name(), Fixture.Customer.email());
+        this.customerGateway.create(customer);
+
+        final var books = List.of(
+                Book.with(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn()),
+                Book.with(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn())
+        );
+        books.forEach(this.bookGateway::create);
+        final var bookIds = books.stream().map(Book::getId).toList();
+
+        final var loans = books.stream().map(book -> Loan.with(customer.getId(), book.getId())).toList();
+        final var loanIds = loans.stream().map(Loan::getId).toList();
+
+        // when
+        this.gateway.createAll(loans);
+
+        // then
+        assertEquals(2, this.repository.count());
+        assertEquals(Set.copyOf(bookIds), this.gateway.findActiveBookIds(bookIds));
+
+        // when
+        final var actualIds = this.gateway.markAllReturned(loanIds, Instant.now());
+
+        // then
+        assertEquals(Set.copyOf(loanIds), actualIds);
+        assertEquals(Set.of(), this.gateway.findActiveBookIds(bookIds));
+        assertTrue(this.gateway.findAllByIds(loanIds).stream().allMatch(Loan::isReturned));
+    }
+
+    @Test
+    void givenALoanAlreadyReturned_whenCallsMarkAllReturned_thenShouldOnlyReturnTheOpenOnes() {
+        // given
+        final var customer = Customer.with(Fixture.Customer.name(), Fixture.Customer.email());
+        this.customerGateway.create(customer);
+
+        final var books = List.of(
+                Book.with(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn()),
+                Book.with(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn())
+        );
+        books.forEach(this.bookGateway::create);
+
+        final var returnedLoan = this.gateway.create(Loan.with(customer.getId(), books.get(0).getId()));
+        final var openLoan = this.gateway.create(Loan.with(customer.getId(), books.get(1).getId()));
+
+        final var expectedReturnDate = Instant.now().minus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.MICROS);
+        this.gateway.markReturned(returnedLoan.getId(), expectedReturnDate);
+
+        // when
+        final var actualIds = this.gateway.markAllReturned(List.of(returnedLoan.getId(), openLoan.getId(), Fixture.randomId()), Instant.now());
+
+        // then
+        assertEquals(Set.of(openLoan.getId()), actualIds);
+        assertEquals(expectedReturnDate, this.repository.findById(returnedLoan.getId()).get().getReturnDate());
+        assertTrue(this.repository.findById(openLoan.getId()).get().isReturned());
+        assertEquals(Set.of(), this.gateway.markAllReturned(List.of(returnedLoan.getId(), openLoan.getId()), Instant.now()));
+    }
+
+    @Test
+    void givenPrePersistedLateLoans_whenCallsFindAllLateLoansInChunks_thenShouldWalkThemByCustomer() {
+        // given
+        final var loanDate = Instant.now().minus(10, ChronoUnit.DAYS);
+        final var expectedIds = new ArrayList<String>();
+
+        for (int i = 0; i < 3; i++) {
+            final var customer = Customer.with(Fixture.Customer.name(), Fixture.Customer.email());
+            this.customerGateway.create(customer);
+
+            final var book = Book.with(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn());
+            this.bookGateway.create(book);
+
+            final var loan = Loan.with(Fixture.randomId(), customer.getId(), book.getId(), loanDate, loanDate.plus(Loan.DEFAULT_LOAN_PERIOD), null, false);
+            this.gateway.create(loan);
+            expectedIds.add(loan.getId());
+        }
+
+        final var customer = Customer.with(Fixture.Customer.name(), Fixture.Customer.email());
+        this.customerGateway.create(customer);
+        final var book = Book.with(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn());
+        this.bookGateway.create(book);
+        this.gateway.create(Loan.with(customer.getId(), book.getId()));
+
+        final var schedule = ReminderSchedule.with(List.of(0));
+        final var today = LocalDate.now();
+
+        // when
+        final var firstChunk = this.gateway.findAllLateLoans(schedule, today, null, 2);
+        final var secondChunk = this.gateway.findAllLateLoans(schedule, today, LoanKey.of(firstChunk.getLast()), 2);
+
+        // then
+        assertEquals(4, this.repository.count());
+        assertEquals(2, firstChunk.size());
+        assertEquals(1, secondChunk.size());
+
+        final var actualIds = new ArrayList<String>();
+        firstChunk.forEach(loan -> actualIds.add(loan.getId()));
+        secondChunk.forEach(loan -> actualIds.add(loan.getId()));
+
+        assertEquals(expectedIds.size(), actualIds.size());
+        assertTrue(actualIds.containsAll(expectedIds));
+        assertTrue(firstChunk.getLast().getCustomerId().compareTo(secondChunk.getFirst().getCustomerId()) < 0);
+    }
+
+    @Test
+    void givenNotifiedLateLoans_whenCallsFindAllLateLoans_thenShouldReturnOnlyNewlyDueReminders() {
+        // given
+        final var schedule = ReminderSchedule.with(List.of(0, 3, 10));
+        final var today = LocalDate.now();
+
+        final var notifiedOneDayOverdue = lateLoan(20, 1);
+        final var notifiedFourDaysOverdue = lateLoan(8, 4);
+        final var neverNotified = lateLoan(5, 1);
+        final var notYetDue = lateLoan(20, -1);
+        final var exhausted = lateLoan(24, 20);
+
+        this.gateway.markNotified(Map.of(
+                notifiedOneDayOverdue.getId(), 1,
+                notifiedFourDaysOverdue.getId(), 1,
+                exhausted.getId(), 3
+        ));
+
+        // when
+        final var actualLoans = this.gateway.findAllLateLoans(schedule, today, null, 10);
+
+        // then
+        final var actualIds = actualLoans.stream().map(Loan::getId).toList();
+        assertEquals(2, actualIds.size());
+        assertTrue(actualIds.containsAll(List.of(notifiedFourDaysOverdue.getId(), neverNotified.getId())));
+        assertFalse(actualIds.contains(notYetDue.getId()));
+    }
+
+    private Loan lateLoan(final int loanedDaysAgo, final int overdueDays) {
+        final var customer = Customer.with(Fixture.Customer.name(), Fixture.Customer.email());
+        this.customerGateway.create(customer);
+
+        final var book = Book.with(Fixture.Book.title(), Fixture.Book.author(), Fixture.Book.isbn());
+        this.bookGateway.create(book);
+
+        final var loanDate = Instant.now().minus(loanedDaysAgo, ChronoUnit.DAYS);
+        final var dueDate = Instant.now().minus(overdueDays, ChronoUnit.DAYS);
+        return this.gateway.create(Loan.with(Fixture.randomId(), customer.getId(), book.getId(), loanDate, dueDate, null, false));
+    }
+}
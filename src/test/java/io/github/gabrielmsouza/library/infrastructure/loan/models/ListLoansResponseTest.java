@@ -22,6 +22,7 @@ class ListLoansResponseTest {
         final var expectedBookId = Fixture.randomId();
         final var expectedCustomerId = Fixture.randomId();
         final var expectedLoanDate = Instant.now();
+        final var expectedDueDate = Instant.now();
         final var expectedReturnDate = Instant.now();
         final var expectedReturned = false;
 
@@ -30,6 +31,7 @@ class ListLoansResponseTest {
             expectedBookId,
             expectedCustomerId,
             expectedLoanDate,
+            expectedDueDate,
             expectedReturnDate,
             expectedReturned
         );
@@ -43,6 +45,7 @@ class ListLoansResponseTest {
             .hasJsonPathValue("$.book_id", expectedBookId)
             .hasJsonPathValue("$.customer_id", expectedCustomerId)
             .hasJsonPathValue("$.loan_date", expectedLoanDate.toString())
+            .hasJsonPathValue("$.due_date", expectedDueDate.toString())
             .hasJsonPathValue("$.return_date", expectedReturnDate.toString())
             .hasJsonPathValue("$.returned", expectedReturned);
     }